@@ -2,15 +2,19 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.5"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.seowon"
 version = "0.0.1-SNAPSHOT"
 description = "Coding Test project for Spring Boot"
 
+// virtual thread 모드는 Java 21 이 필요하다: ./gradlew build -PjavaVersion=21
+val javaVersion = (findProperty("javaVersion") as String?)?.toInt() ?: 17
+
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(javaVersion)
 	}
 }
 
@@ -0,0 +1,140 @@
+package com.seowon.coding.concurrency;
+
+import com.seowon.coding.util.LatencyHistogram;
+import com.seowon.coding.util.ThreadFactories;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * platform thread 풀(Tomcat 기본 200) vs 요청당 virtual thread 처리량 / p99 비교
+ *
+ * 요청 하나 = 풀 밖의 대기(remoteMillis, 외부 호출 등) + 커넥션 풀(poolSize)을 잡고 하는 느린 쿼리(queryMillis)
+ * 한 번의 측정은 requests 건을 동시에 넣고 모두 끝날 때까지의 시간이다. (처리량 = requests / 시간)
+ * 요청별 지연 p50 / p99 / mean(us) 은 @AuxCounters 로 JMH 결과에 burst:p99Micros 같은 보조 지표로 나온다. (iteration 단위)
+ *
+ * virtual 은 Java 21 이 필요하다: ./gradlew jmh -PjavaVersion=21
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"2000"})
+    private int requests;
+
+    @Param({"20"})
+    private int poolSize;
+
+    @Param({"5"})
+    private int queryMillis;
+
+    @Param({"0", "20"})
+    private int remoteMillis;
+
+    private Executor executor;
+    private Semaphore connections;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? new VirtualThreadTaskExecutor("bench-")
+                : Executors.newFixedThreadPool(PLATFORM_THREADS, ThreadFactories.named("bench-", false));
+        connections = new Semaphore(poolSize, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void burst(Latency latency) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            long submittedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    handle();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latency.histogram.record(System.nanoTime() - submittedAt);
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        latency.publish();
+    }
+
+    private void handle() throws InterruptedException {
+        if (remoteMillis > 0) {
+            Thread.sleep(remoteMillis);
+        }
+        connections.acquire();
+        try {
+            Thread.sleep(queryMillis);
+        } finally {
+            connections.release();
+        }
+    }
+
+    /**
+     * iteration 마다 새 히스토그램으로 모은 요청 지연. public 필드가 JMH 결과의 보조 지표가 된다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.METRIC)
+    public static class Latency {
+
+        public long p50Micros;
+        public long p99Micros;
+        public long meanMicros;
+
+        private LatencyHistogram histogram;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            histogram = new LatencyHistogram();
+            p50Micros = 0;
+            p99Micros = 0;
+            meanMicros = 0;
+        }
+
+        void publish() {
+            LatencyHistogram.Snapshot s = histogram.snapshot();
+            p50Micros = s.p50Micros();
+            p99Micros = s.p99Micros();
+            meanMicros = s.meanMicros();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.seowon.coding.policy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10만 건 대량 가격 변경 시 정책 적용 비용 비교
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceAdjustmentBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"10", "-12.5", "33.3"})
+    private double percentage;
+
+    private BigDecimal[] prices;
+    private PriceAdjustmentPolicy policy;
+    private CompiledPriceAdjustment compiled;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            prices[i] = BigDecimal.valueOf(random.nextInt(10_000_000) + 1, 2);
+        }
+        policy = PriceAdjustmentPolicy.of(percentage, true);
+        compiled = policy.compile();
+    }
+
+    @Benchmark
+    public void policyApply(Blackhole bh) {
+        for (BigDecimal price : prices) {
+            bh.consume(policy.apply(price));
+        }
+    }
+
+    @Benchmark
+    public void compiledApply(Blackhole bh) {
+        CompiledPriceAdjustment adjustment = policy.compile();
+        for (BigDecimal price : prices) {
+            bh.consume(adjustment.apply(price));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal[] compiledApplyAll() {
+        return compiled.applyAll(prices);
+    }
+}
@@ -0,0 +1,96 @@
+package com.seowon.coding.pricing;
+
+import com.seowon.coding.pricing.PricingRuleDefinition.Coupon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활성 쿠폰 수에 따른 checkout 1건당 가격 계산 비용
+ * linearScan 은 쿠폰 목록을 startsWith / equals 로 훑는 단순 구현 (비교 기준)
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    private static final int CODES = 1024;
+
+    @Param({"10", "1000", "10000"})
+    private int coupons;
+
+    private PricingEngine engine;
+    private List<Coupon> couponList;
+    private String[] codes;
+    private BigDecimal[] subtotals;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        couponList = new ArrayList<>(coupons);
+        for (int i = 0; i < coupons; i++) {
+            // 절반은 정확히 일치하는 코드, 절반은 prefix
+            boolean prefix = i % 2 == 0;
+            couponList.add(new Coupon((prefix ? "P" : "E") + Integer.toString(i, 36).toUpperCase(),
+                    prefix, BigDecimal.valueOf(random.nextInt(50) + 1)));
+        }
+        engine = new PricingEngine(List.of());
+        engine.reload(new PricingRuleDefinition(new BigDecimal("100.00"), new BigDecimal("5.00"), couponList));
+
+        codes = new String[CODES];
+        subtotals = new BigDecimal[CODES];
+        for (int i = 0; i < CODES; i++) {
+            Coupon c = couponList.get(random.nextInt(coupons));
+            // prefix 쿠폰은 뒤에 임의 문자열을 붙여 실제 쿠폰 코드처럼, 일부는 없는 코드
+            codes[i] = random.nextInt(10) == 0 ? "NOPE-" + i : c.prefix() ? c.code() + "-" + i : c.code();
+            subtotals[i] = BigDecimal.valueOf(random.nextInt(20_000) + 1, 2);
+        }
+    }
+
+    @Benchmark
+    public void engine(Blackhole bh) {
+        int i = next++ & (CODES - 1);
+        bh.consume(engine.quote(subtotals[i], codes[i]));
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole bh) {
+        int i = next++ & (CODES - 1);
+        BigDecimal subtotal = subtotals[i];
+        String code = codes[i];
+        BigDecimal shipping = subtotal.compareTo(new BigDecimal("100.00")) >= 0 ? BigDecimal.ZERO : new BigDecimal("5.00");
+        BigDecimal discount = BigDecimal.ZERO;
+        int longest = -1;
+        for (Coupon c : couponList) {
+            if (!c.prefix() && c.code().equals(code)) {
+                discount = c.amount();
+                break;
+            }
+            if (c.prefix() && code.startsWith(c.code()) && c.code().length() > longest) {
+                longest = c.code().length();
+                discount = c.amount();
+            }
+        }
+        bh.consume(subtotal.add(shipping).subtract(discount));
+    }
+}
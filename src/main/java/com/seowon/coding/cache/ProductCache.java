@@ -0,0 +1,192 @@
+package com.seowon.coding.cache;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.util.TxUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 프로세스 내 상품 read-through 캐시 (크기 제한 + TTL + LRU)
+ *
+ * - 엔티티를 그대로 들고 있지 않고 스냅샷 복사본을 저장/반환한다. (영속성 컨텍스트와 분리)
+ * - 쓰기 경로는 invalidate 로 즉시 + 커밋 직후 두 번 지운다.
+ *   커밋 전에 다른 스레드가 옛 값을 다시 올려두는 경우를 막기 위함.
+ * - 로딩 중에 그 상품이 invalidate 되었다면 로딩 결과는 캐시에 올리지 않는다.
+ *   로딩 중인 key 별로만 세대(generation)를 세므로 다른 상품의 invalidate 는 영향을 주지 않는다.
+ * - 재고는 스냅샷 시점 값이므로 재고 차감은 반드시 DB 에서 읽은 값으로 해야 한다.
+ */
+@Component
+public class ProductCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Long, Entry> entries;
+    /** 로딩 중인 key 만 담는다. (로딩이 모두 끝나면 지운다) */
+    private final Map<Long, Loading> loading = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ProductCache(@Value("${product.cache.max-size:10000}") int maxSize,
+                        @Value("${product.cache.ttl-seconds:300}") long ttlSeconds) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("max-size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        // accessOrder = true -> LRU
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > ProductCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 있으면 복사본을, 없으면 loader 로 읽어서 캐시에 올린 뒤 반환
+     */
+    public Optional<Product> get(Long id, Function<Long, Optional<Product>> loader) {
+        Optional<Product> cached = getIfPresent(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long generation = beginLoad(id);
+        Optional<Product> loaded = Optional.empty();
+        try {
+            loaded = loader.apply(id);
+            return loaded;
+        } finally {
+            endLoad(id, loaded.orElse(null), generation);
+        }
+    }
+
+    /**
+     * 캐시에 있는 경우에만 복사본 반환 (DB 조회 없음)
+     */
+    public Optional<Product> getIfPresent(Long id) {
+        Product cached = lookup(id);
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(copyOf(cached));
+    }
+
+    public synchronized void put(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        entries.put(product.getId(), new Entry(copyOf(product), System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * 즉시 제거 + 현재 트랜잭션 커밋 후 한 번 더 제거
+     */
+    public void invalidate(Long id) {
+        evict(id);
+        TxUtils.afterCommit(() -> evict(id));
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        evictAll(ids);
+        TxUtils.afterCommit(() -> evictAll(ids));
+    }
+
+    public synchronized void clear() {
+        loading.values().forEach(Loading::invalidate);
+        entries.clear();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private synchronized Product lookup(Long id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            entries.remove(id);
+            evictions.increment();
+            return null;
+        }
+        return entry.product();
+    }
+
+    private synchronized long beginLoad(Long id) {
+        Loading l = loading.computeIfAbsent(id, key -> new Loading());
+        l.inFlight++;
+        return l.generation;
+    }
+
+    /**
+     * 로딩을 시작한 뒤 그 key 가 invalidate 되지 않았을 때만 캐시에 올린다.
+     */
+    private synchronized void endLoad(Long id, Product loaded, long generation) {
+        Loading l = loading.get(id);
+        if (loaded != null && l.generation == generation) {
+            put(loaded);
+        }
+        if (--l.inFlight == 0) {
+            loading.remove(id);
+        }
+    }
+
+    private synchronized void evict(Long id) {
+        entries.remove(id);
+        Loading l = loading.get(id);
+        if (l != null) {
+            l.invalidate();
+        }
+    }
+
+    private synchronized void evictAll(Collection<Long> ids) {
+        for (Long id : ids) {
+            evict(id);
+        }
+    }
+
+    private static Product copyOf(Product p) {
+        return Product.builder()
+                .id(p.getId())
+                .name(p.getName())
+                .description(p.getDescription())
+                .price(p.getPrice())
+                .stockQuantity(p.getStockQuantity())
+                .category(p.getCategory())
+                .version(p.getVersion())
+                .build();
+    }
+
+    private record Entry(Product product, long expiresAt) {
+    }
+
+    private static final class Loading {
+        int inFlight;
+        long generation;
+
+        void invalidate() {
+            generation++;
+        }
+    }
+
+    public record CacheStats(long hits, long misses, long evictions, int size) {
+    }
+}
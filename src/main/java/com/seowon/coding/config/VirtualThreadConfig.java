@@ -0,0 +1,72 @@
+package com.seowon.coding.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * virtual thread 모드 (spring.threads.virtual.enabled=true, Java 21 이상)
+ *
+ * Tomcat 이 요청마다 virtual thread 를 만들면 threads.max 가 더 이상 동시 처리 수를 막지 않는다.
+ * 그대로 두면 요청이 커넥션 풀 앞에 무한히 쌓이므로 동시 처리 요청 수를 풀 크기의 몇 배로 제한하고,
+ * 자리가 나지 않으면 오래 붙잡지 않고 503 으로 돌려보낸다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${web.virtual.max-concurrent-requests:200}") int maxConcurrentRequests,
+            @Value("${web.virtual.acquire-timeout-ms:1000}") long acquireTimeoutMillis) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxConcurrentRequests, acquireTimeoutMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    public static class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+        private final Semaphore permits;
+        private final long acquireTimeoutMillis;
+
+        ConcurrencyLimitFilter(int maxConcurrentRequests, long acquireTimeoutMillis) {
+            this.permits = new Semaphore(maxConcurrentRequests, true);
+            this.acquireTimeoutMillis = acquireTimeoutMillis;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.seowon.coding.controller;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 엔티티 version 으로 만드는 strong ETag
+ */
+@UtilityClass
+class ETags {
+
+    static String of(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+}
@@ -0,0 +1,66 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.export.NdjsonExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 웨어하우스 적재용 전체 스냅샷 (NDJSON)
+ * gzip=true 면 .ndjson.gz 파일로 내려준다.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final NdjsonExportService exportService;
+
+    @GetMapping("/products")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "false") boolean gzip) {
+        return export("products", gzip, exportService::exportProducts);
+    }
+
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "false") boolean gzip) {
+        return export("orders", gzip, exportService::exportOrders);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, boolean gzip, Exporter exporter) {
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream zipped = new GZIPOutputStream(out, 64 * 1024, true)) {
+                    exporter.export(zipped);
+                }
+            } else {
+                exporter.export(out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + (gzip ? ".ndjson.gz" : ".ndjson"))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @FunctionalInterface
+    private interface Exporter {
+        long export(OutputStream out) throws IOException;
+    }
+}
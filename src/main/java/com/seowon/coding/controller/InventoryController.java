@@ -0,0 +1,41 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.dto.LowStockPage;
+import com.seowon.coding.inventory.StockLevelEvent;
+import com.seowon.coding.service.InventoryService;
+import com.seowon.coding.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventory")
+@RequiredArgsConstructor
+public class InventoryController {
+
+    private final InventoryService inventoryService;
+
+    @GetMapping("/low-stock")
+    public ResponseEntity<LowStockPage> getLowStock(
+            @RequestParam(defaultValue = "10") int below,
+            @RequestParam(required = false) Integer afterQuantity,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "" + ProductService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(inventoryService.getLowStock(below, afterQuantity, afterId, size));
+    }
+
+    /**
+     * 임계값 통과 이벤트 피드. 마지막으로 받은 sequence 를 after 로 넘겨 폴링한다.
+     */
+    @GetMapping("/stock-events")
+    public ResponseEntity<List<StockLevelEvent>> getStockEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(inventoryService.getStockEvents(after, limit));
+    }
+}
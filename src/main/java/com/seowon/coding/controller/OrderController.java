@@ -1,15 +1,31 @@
 package com.seowon.coding.controller;
 
+import com.seowon.coding.domain.dto.BulkOrderResult;
+import com.seowon.coding.domain.dto.OrderHistoryPage;
 import com.seowon.coding.domain.dto.OrderRequestDto;
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.OrderStats;
 import com.seowon.coding.domain.dto.ProductDto;
 import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.idempotency.IdempotencyStore;
+import com.seowon.coding.service.BulkOrderService;
+import com.seowon.coding.service.OrderIngestionService;
 import com.seowon.coding.service.OrderService;
+import com.seowon.coding.stats.OrderStatsStore;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestController
@@ -17,17 +33,58 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final OrderService orderService;
+    private final BulkOrderService bulkOrderService;
+    private final OrderIngestionService orderIngestionService;
+    private final IdempotencyStore idempotencyStore;
+    private final OrderStatsStore orderStatsStore;
 
     @GetMapping
-    public ResponseEntity<List<Order>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+    public ResponseEntity<List<OrderResponse>> getAllOrders() {
+        return ResponseEntity.ok(orderService.getAllOrderResponses());
+    }
+
+    /**
+     * 상태별 주문 건수 / 금액. 메모리 집계만 읽는다. (OrderStatsStore)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<OrderStats> getStats() {
+        return ResponseEntity.ok(orderStatsStore.snapshot());
+    }
+
+    /**
+     * 고객 주문 내역 (최근 주문부터). 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
+     */
+    @GetMapping("/history")
+    public ResponseEntity<OrderHistoryPage> getCustomerHistory(
+            @RequestParam String customerEmail,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + OrderService.DEFAULT_HISTORY_PAGE_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(orderService.getCustomerHistory(customerEmail, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
+    /**
+     * ETag 는 version. If-None-Match 가 일치하면 version 조회만 하고 304 로 끝낸다.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
-        return orderService.getOrderById(id)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id, WebRequest request) {
+        Optional<Long> version = orderService.getOrderVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(ETags.of(version.get()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.of(version.get())).build();
+        }
+        return orderService.getOrderResponse(id)
+                .map(o -> ResponseEntity.ok().eTag(ETags.of(o.version())).body(o))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -36,6 +93,8 @@ public class OrderController {
         try {
             Order updatedOrder = orderService.updateOrder(id, order);
             return ResponseEntity.ok(updatedOrder);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -73,8 +132,28 @@ public class OrderController {
      * todo 개선점 및 회고
      *  - dto안의 products list를 따로 받아 한번의 반복으로 productIds, quantity를 받아야 했다.
      */
+    /**
+     * 주문은 OrderIngestionService 에서 다른 요청과 묶여 한 트랜잭션으로 커밋된다. (요청 스레드는 기다리지 않음)
+     * 201 + Location / 잘못된 요청 400 / 재고 부족 409 / 접수 큐가 가득 차면 429
+     * Idempotency-Key 가 있으면 같은 key 의 재시도는 주문을 다시 만들지 않고 처음 결과를 돌려준다. (IdempotencyStore)
+     */
     @PostMapping()
-    public ResponseEntity<Void> createOrder(@RequestBody OrderRequestDto orderRequestDto) {
+    public CompletableFuture<ResponseEntity<Void>> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequestDto orderRequestDto) {
+        if (idempotencyKey == null) {
+            return placeOrder(orderRequestDto).thenApply(OrderController::toResponse);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return idempotencyStore.execute(idempotencyKey,
+                        IdempotencyStore.fingerprint(orderRequestDto.toCanonicalString()),
+                        () -> placeOrder(orderRequestDto))
+                .thenApply(OrderController::toResponse);
+    }
+
+    private CompletableFuture<IdempotencyStore.Result> placeOrder(OrderRequestDto orderRequestDto) {
         String customerName = orderRequestDto.getCustomerName();
         String customerEmail = orderRequestDto.getCustomerEmail();
         List<Long> productIds = orderRequestDto.getProducts().stream()
@@ -82,8 +161,46 @@ public class OrderController {
         List<Integer> quantity = orderRequestDto.getProducts().stream()
                 .map(ProductDto::getQuantity).toList();
 
-        orderService.placeOrder(customerName,customerEmail,productIds,quantity);
-        return ResponseEntity.status(201).build();
+        return orderIngestionService.submit(customerName, customerEmail, productIds, quantity)
+                .handle((order, ex) -> {
+                    if (ex == null) {
+                        return IdempotencyStore.Result.of(HttpStatus.CREATED, order.getId());
+                    }
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof IllegalArgumentException) {
+                        return IdempotencyStore.Result.of(HttpStatus.BAD_REQUEST, null);
+                    }
+                    if (cause instanceof IllegalStateException) {
+                        return IdempotencyStore.Result.of(HttpStatus.CONFLICT, null);
+                    }
+                    if (cause instanceof RejectedExecutionException) {
+                        return IdempotencyStore.Result.of(HttpStatus.TOO_MANY_REQUESTS, null);
+                    }
+                    return IdempotencyStore.Result.of(HttpStatus.INTERNAL_SERVER_ERROR, null);
+                });
+    }
+
+    /**
+     * 대량 주문. 주문별 성공 / 실패를 요청 순서대로 돌려준다. (일부 실패해도 200)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOrderResult> createOrders(@RequestBody List<OrderRequestDto> orderRequestDtos) {
+        try {
+            return ResponseEntity.ok(bulkOrderService.placeOrders(orderRequestDtos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private static ResponseEntity<Void> toResponse(IdempotencyStore.Result result) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(result.status());
+        if (result.resourceId() != null) {
+            builder.location(URI.create("/api/orders/" + result.resourceId()));
+        }
+        if (result.replayed()) {
+            builder.header(IDEMPOTENT_REPLAYED, "true");
+        }
+        return builder.build();
     }
 
 
@@ -0,0 +1,54 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.dto.AcceptedResponse;
+import com.seowon.coding.domain.dto.OrderRequestDto;
+import com.seowon.coding.domain.dto.OrderSubmissionStatus;
+import com.seowon.coding.service.OrderIngestionService;
+import com.seowon.coding.service.OrderSubmissionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 주문 비동기 접수. 검증 후 큐에 넣고 202 + 상태 URL 을 돌려준다. (큐가 가득 차면 429)
+ */
+@RestController
+@RequestMapping("/api/orders/submissions")
+@RequiredArgsConstructor
+public class OrderSubmissionController {
+
+    private final OrderSubmissionService orderSubmissionService;
+
+    @PostMapping
+    public ResponseEntity<AcceptedResponse> submit(@Valid @RequestBody OrderRequestDto request) {
+        try {
+            String id = orderSubmissionService.submit(request);
+            String statusUrl = "/api/orders/submissions/" + id;
+            return ResponseEntity.accepted()
+                    .location(URI.create(statusUrl))
+                    .body(new AcceptedResponse(id, statusUrl));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderSubmissionStatus> getStatus(@PathVariable String id) {
+        return orderSubmissionService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 접수 큐 깊이 / 처리 건수 / 접수~완료 지연 시간
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<OrderIngestionService.IngestStats> stats() {
+        return ResponseEntity.ok(orderSubmissionService.stats());
+    }
+}
@@ -0,0 +1,53 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.dto.AcceptedResponse;
+import com.seowon.coding.domain.dto.BulkPriceChangeRequest;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.service.PriceChangeJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/products/price-jobs")
+@RequiredArgsConstructor
+public class PriceJobController {
+
+    private final PriceChangeJobService priceChangeJobService;
+
+    @PostMapping
+    public ResponseEntity<AcceptedResponse> submit(@RequestBody BulkPriceChangeRequest request) {
+        try {
+            String jobId = priceChangeJobService.submit(request);
+            String statusUrl = "/api/products/price-jobs/" + jobId;
+            return ResponseEntity.accepted()
+                    .location(URI.create(statusUrl))
+                    .body(new AcceptedResponse(jobId, statusUrl));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ProcessingStatus> getStatus(@PathVariable String jobId) {
+        return priceChangeJobService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<Void> cancel(@PathVariable String jobId) {
+        if (priceChangeJobService.cancel(jobId)) {
+            return ResponseEntity.accepted().build();
+        }
+        return priceChangeJobService.getStatus(jobId).isPresent()
+                ? ResponseEntity.status(HttpStatus.CONFLICT).build()
+                : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.pricing.PricingEngine;
+import com.seowon.coding.pricing.PricingRuleDefinition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/pricing/rules")
+@RequiredArgsConstructor
+public class PricingController {
+
+    private final PricingEngine pricingEngine;
+
+    @GetMapping
+    public ResponseEntity<PricingRuleDefinition> getRules() {
+        return ResponseEntity.ok(pricingEngine.currentDefinition());
+    }
+
+    /**
+     * 새 규칙을 컴파일해서 교체한다. 진행 중인 checkout 은 기존 규칙으로 끝난다.
+     */
+    @PutMapping
+    public ResponseEntity<PricingRuleDefinition> reload(@RequestBody PricingRuleDefinition definition) {
+        try {
+            pricingEngine.reload(definition);
+            return ResponseEntity.ok(pricingEngine.currentDefinition());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,44 +1,145 @@
 package com.seowon.coding.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.cache.ProductCache;
+import com.seowon.coding.domain.dto.BulkPriceChangeRequest;
+import com.seowon.coding.domain.dto.BulkPriceChangeResult;
+import com.seowon.coding.domain.dto.CursorPage;
+import com.seowon.coding.domain.dto.PricePreviewTotals;
+import com.seowon.coding.domain.dto.ProductImportResult;
+import com.seowon.coding.domain.dto.ProductResponse;
+import com.seowon.coding.domain.dto.SearchPage;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.importer.ProductImportService;
+import com.seowon.coding.service.BulkPriceChangeService;
+import com.seowon.coding.service.PriceChangePreviewService;
 import com.seowon.coding.service.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/products")
 @RequiredArgsConstructor
 public class ProductController {
     
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final ProductCache productCache;
+    private final BulkPriceChangeService bulkPriceChangeService;
+    private final PriceChangePreviewService priceChangePreviewService;
+    private final ProductImportService productImportService;
     
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    public ResponseEntity<CursorPage<ProductResponse>> getAllProducts(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + ProductService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(productService.getProductPage(cursor, size).map(ProductResponse::from));
+    }
+
+    /**
+     * 전체 카탈로그를 JSON 배열로 흘려보낸다.
+     * 리스트를 만들지 않고 읽는 즉시 write 하므로 카탈로그 크기와 무관하게 힙 사용량이 일정하다.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator gen = objectMapper.createGenerator(out)) {
+                gen.writeStartArray();
+                int[] written = {0};
+                productService.streamAllProducts(product -> {
+                    try {
+                        gen.writeObject(ProductResponse.from(product));
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            gen.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                gen.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
     
+    /**
+     * ETag 는 version. If-None-Match 가 일치하면 version 조회만 하고 304 로 끝낸다.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id, WebRequest request) {
+        Optional<Long> version = productService.getProductVersion(id);
+        if (version.isPresent() && request.checkNotModified(ETags.of(version.get()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.of(version.get())).build();
+        }
         return productService.getProductById(id)
-                .map(ResponseEntity::ok)
+                .map(p -> ResponseEntity.ok().eTag(ETags.of(p.getVersion())).body(ProductResponse.from(p)))
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/search")
+    public ResponseEntity<SearchPage<ProductResponse>> searchProducts(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + ProductService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(productService.searchProducts(query, page, size).map(ProductResponse::from));
+    }
+    
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ProductCache.CacheStats> getCacheStats() {
+        return ResponseEntity.ok(productCache.stats());
+    }
+    
     @PostMapping
     public ResponseEntity<Product> createProduct(@RequestBody Product product) {
         Product createdProduct = productService.createProduct(product);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
     }
     
+    /**
+     * NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문을 스트리밍으로 읽어 upsert 한다.
+     * 행 단위 오류는 결과에 담기고 나머지 행은 계속 처리된다.
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ProductImportResult> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        ProductImportService.Format format = mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? ProductImportService.Format.CSV
+                : ProductImportService.Format.NDJSON;
+        try {
+            return ResponseEntity.ok(productImportService.importProducts(body, format,
+                    mediaType.getCharset() == null ? StandardCharsets.UTF_8 : mediaType.getCharset()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
         try {
             Product updatedProduct = productService.updateProduct(id, product);
             return ResponseEntity.ok(updatedProduct);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -54,4 +155,47 @@ public class ProductController {
         }
     }
     
+    @PostMapping("/price-changes")
+    public ResponseEntity<BulkPriceChangeResult> applyBulkPriceChange(@RequestBody BulkPriceChangeRequest request) {
+        try {
+            return ResponseEntity.ok(bulkPriceChangeService.apply(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 실제로 변경하지 않고 상품별 기존가/변경가/차액과 합계를 흘려보낸다.
+     * {"items": [...], "totals": {...}}
+     */
+    @PostMapping("/price-changes/preview")
+    public ResponseEntity<StreamingResponseBody> previewBulkPriceChange(@RequestBody BulkPriceChangeRequest request) {
+        if (request.getCategory() == null && (request.getProductIds() == null || request.getProductIds().isEmpty())) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator gen = objectMapper.createGenerator(out)) {
+                gen.writeStartObject();
+                gen.writeArrayFieldStart("items");
+                int[] written = {0};
+                PricePreviewTotals totals = priceChangePreviewService.preview(request, row -> {
+                    try {
+                        gen.writeObject(row);
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            gen.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                gen.writeEndArray();
+                gen.writeObjectField("totals", totals);
+                gen.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.seowon.coding.domain.dto;
+
+/**
+ * 202 Accepted 응답 (statusUrl 을 폴링해서 진행 상태를 확인한다)
+ */
+public record AcceptedResponse(
+        String id,
+        String statusUrl
+) {
+}
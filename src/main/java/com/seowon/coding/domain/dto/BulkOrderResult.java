@@ -0,0 +1,32 @@
+package com.seowon.coding.domain.dto;
+
+import java.util.List;
+
+/**
+ * 대량 주문 결과 (요청 순서와 같은 순서)
+ */
+public record BulkOrderResult(
+        int succeeded,
+        int failed,
+        List<Outcome> results
+) {
+    /**
+     * @param index   요청 목록에서의 위치 (0부터)
+     * @param orderId 성공하면 생성된 주문 id, 실패하면 null
+     * @param error   실패 사유 (성공하면 null)
+     */
+    public record Outcome(int index, Long orderId, String error) {
+
+        public static Outcome placed(int index, Long orderId) {
+            return new Outcome(index, orderId, null);
+        }
+
+        public static Outcome failed(int index, String error) {
+            return new Outcome(index, null, error);
+        }
+
+        public boolean success() {
+            return orderId != null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.seowon.coding.domain.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkPriceChangeRequest {
+    List<Long> productIds;
+    /** productIds 대신 카테고리 전체를 대상으로 할 때 */
+    String category;
+    double percentage;
+    boolean includeTax;
+    Mode mode = Mode.ALL_OR_NOTHING;
+    Integer chunkSize;
+
+    public enum Mode {
+        /** 한 트랜잭션, 하나라도 없으면 전체 실패 */
+        ALL_OR_NOTHING,
+        /** chunkSize 단위로 트랜잭션을 나누고 chunk 별 결과를 보고 */
+        CHUNKED
+    }
+}
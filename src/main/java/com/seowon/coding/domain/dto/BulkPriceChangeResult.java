@@ -0,0 +1,45 @@
+package com.seowon.coding.domain.dto;
+
+import java.util.List;
+
+public record BulkPriceChangeResult(
+        BulkPriceChangeRequest.Mode mode,
+        int requested,
+        int updated,
+        int failedChunks,
+        List<ChunkResult> chunks
+) {
+    public static BulkPriceChangeResult of(BulkPriceChangeRequest.Mode mode, List<ChunkResult> chunks) {
+        int requested = 0;
+        int updated = 0;
+        int failed = 0;
+        for (ChunkResult chunk : chunks) {
+            requested += chunk.requested();
+            updated += chunk.updated();
+            if (chunk.error() != null) {
+                failed++;
+            }
+        }
+        return new BulkPriceChangeResult(mode, requested, updated, failed, chunks);
+    }
+
+    /**
+     * @param missingIds 요청했지만 존재하지 않는 상품 id
+     * @param error      chunk 가 롤백된 경우의 사유 (성공이면 null)
+     */
+    public record ChunkResult(
+            int chunk,
+            int requested,
+            int updated,
+            List<Long> missingIds,
+            String error
+    ) {
+        public static ChunkResult succeeded(int chunk, int requested, int updated, List<Long> missingIds) {
+            return new ChunkResult(chunk, requested, updated, missingIds, null);
+        }
+
+        public static ChunkResult failed(int chunk, int requested, String error) {
+            return new ChunkResult(chunk, requested, 0, List.of(), error);
+        }
+    }
+}
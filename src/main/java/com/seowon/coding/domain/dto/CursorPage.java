@@ -0,0 +1,18 @@
+package com.seowon.coding.domain.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset(cursor) 기반 페이지 응답
+ * nextCursor 는 다음 요청의 cursor 로 그대로 넘기면 된다. (마지막 페이지면 null)
+ */
+public record CursorPage<T>(
+        List<T> content,
+        Long nextCursor,
+        boolean hasNext
+) {
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,9 @@
+package com.seowon.coding.domain.dto;
+
+public record LowStockItem(
+        Long productId,
+        String name,
+        String category,
+        int stockQuantity
+) {
+}
@@ -0,0 +1,15 @@
+package com.seowon.coding.domain.dto;
+
+import java.util.List;
+
+/**
+ * (stockQuantity, productId) keyset 페이지
+ * 다음 페이지는 nextAfterQuantity / nextAfterId 를 그대로 넘기면 된다. (마지막 페이지면 null)
+ */
+public record LowStockPage(
+        List<LowStockItem> content,
+        Integer nextAfterQuantity,
+        Long nextAfterId,
+        boolean hasNext
+) {
+}
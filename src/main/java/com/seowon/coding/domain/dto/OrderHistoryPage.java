@@ -0,0 +1,14 @@
+package com.seowon.coding.domain.dto;
+
+import java.util.List;
+
+/**
+ * 고객 주문 내역 페이지 (최근 주문부터)
+ * nextCursor 는 (orderDate, id) 를 인코딩한 값으로, 다음 요청의 cursor 로 그대로 넘기면 된다. (마지막 페이지면 null)
+ */
+public record OrderHistoryPage(
+        List<OrderResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
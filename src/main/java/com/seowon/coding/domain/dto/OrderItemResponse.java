@@ -0,0 +1,16 @@
+package com.seowon.coding.domain.dto;
+
+import java.math.BigDecimal;
+
+public record OrderItemResponse(
+        Long id,
+        Long productId,
+        int quantity,
+        BigDecimal price,
+        BigDecimal subtotal
+) {
+    public static OrderItemResponse from(OrderItemRow row) {
+        BigDecimal subtotal = row.price() == null ? null : row.price().multiply(BigDecimal.valueOf(row.quantity()));
+        return new OrderItemResponse(row.id(), row.productId(), row.quantity(), row.price(), subtotal);
+    }
+}
@@ -0,0 +1,15 @@
+package com.seowon.coding.domain.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 항목 읽기 전용 projection (Order / Product 엔티티를 로딩하지 않는다)
+ */
+public record OrderItemRow(
+        Long orderId,
+        Long id,
+        Long productId,
+        int quantity,
+        BigDecimal price
+) {
+}
@@ -1,5 +1,9 @@
 package com.seowon.coding.domain.dto;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.Data;
 
 import java.util.List;
@@ -7,7 +11,36 @@ import java.util.List;
 
 @Data
 public class OrderRequestDto {
+    @NotBlank
     String customerName;
+    @NotBlank
+    @Email
     String customerEmail;
-    List<ProductDto> products;
+    @NotEmpty
+    List<@Valid ProductDto> products;
+
+    /**
+     * Idempotency-Key 본문 비교용 문자열. 필드 이름이나 toString 형식과 무관하게
+     * 고객 이름 / 이메일 / (상품 id, 수량) 줄만으로 만든다. 문자열은 길이를 앞에 붙여 구분자와 섞이지 않게 한다.
+     */
+    public String toCanonicalString() {
+        StringBuilder sb = new StringBuilder();
+        appendField(sb, customerName);
+        appendField(sb, customerEmail);
+        if (products != null) {
+            for (ProductDto line : products) {
+                sb.append(line.getProductId()).append('x').append(line.getQuantity()).append(';');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendField(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("-1:");
+        } else {
+            sb.append(value.length()).append(':').append(value);
+        }
+        sb.append('|');
+    }
 }
@@ -0,0 +1,38 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 조회 응답. 엔티티 대신 projection 으로 만들어 lazy 로딩 / 순환 참조가 생기지 않는다.
+ */
+public record OrderResponse(
+        Long id,
+        String customerName,
+        String customerEmail,
+        Order.OrderStatus status,
+        LocalDateTime orderDate,
+        BigDecimal totalAmount,
+        Long version,
+        List<OrderItemResponse> items
+) {
+    public static OrderResponse of(OrderRow order, List<OrderItemRow> items) {
+        return new OrderResponse(order.id(), order.customerName(), order.customerEmail(), order.status(),
+                order.orderDate(), order.totalAmount(), order.version(), toResponses(items));
+    }
+
+    /**
+     * 스칼라 필드만 읽으므로 items 는 초기화되지 않는다.
+     */
+    public static OrderResponse of(Order order, List<OrderItemRow> items) {
+        return new OrderResponse(order.getId(), order.getCustomerName(), order.getCustomerEmail(), order.getStatus(),
+                order.getOrderDate(), order.getTotalAmount(), order.getVersion(), toResponses(items));
+    }
+
+    private static List<OrderItemResponse> toResponses(List<OrderItemRow> items) {
+        return items.stream().map(OrderItemResponse::from).toList();
+    }
+}
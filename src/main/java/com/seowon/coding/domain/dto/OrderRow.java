@@ -0,0 +1,20 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 헤더 읽기 전용 projection (items 컬렉션을 건드리지 않는다)
+ */
+public record OrderRow(
+        Long id,
+        String customerName,
+        String customerEmail,
+        Order.OrderStatus status,
+        LocalDateTime orderDate,
+        BigDecimal totalAmount,
+        Long version
+) {
+}
@@ -0,0 +1,21 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Order;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 주문 상태별 건수 / 금액 집계
+ *
+ * @param orders  전체 주문 수
+ * @param revenue CANCELLED 를 제외한 주문 금액 합계
+ */
+public record OrderStats(
+        Map<Order.OrderStatus, StatusTotal> byStatus,
+        long orders,
+        BigDecimal revenue
+) {
+    public record StatusTotal(long count, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.seowon.coding.domain.dto;
+
+/**
+ * 비동기로 접수한 주문의 처리 상태 (orderId 는 COMPLETED 일 때만)
+ */
+public record OrderSubmissionStatus(
+        String id,
+        State state,
+        Long orderId,
+        String reason
+) {
+    public enum State {
+        PENDING, COMPLETED, REJECTED, FAILED
+    }
+}
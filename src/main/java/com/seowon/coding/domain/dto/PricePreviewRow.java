@@ -0,0 +1,12 @@
+package com.seowon.coding.domain.dto;
+
+import java.math.BigDecimal;
+
+public record PricePreviewRow(
+        Long productId,
+        String name,
+        BigDecimal oldPrice,
+        BigDecimal newPrice,
+        BigDecimal delta
+) {
+}
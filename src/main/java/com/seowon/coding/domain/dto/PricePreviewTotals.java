@@ -0,0 +1,21 @@
+package com.seowon.coding.domain.dto;
+
+import java.math.BigDecimal;
+
+public record PricePreviewTotals(
+        long count,
+        BigDecimal oldTotal,
+        BigDecimal newTotal,
+        BigDecimal delta
+) {
+    public static final PricePreviewTotals EMPTY =
+            new PricePreviewTotals(0, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+    public PricePreviewTotals plus(PricePreviewTotals other) {
+        return new PricePreviewTotals(
+                count + other.count,
+                oldTotal.add(other.oldTotal),
+                newTotal.add(other.newTotal),
+                delta.add(other.delta));
+    }
+}
@@ -1,9 +1,14 @@
 package com.seowon.coding.domain.dto;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 
 @Data
 public class ProductDto {
+    @NotNull
     Long productId;
+    @NotNull
+    @Positive
     Integer quantity;
 }
@@ -0,0 +1,24 @@
+package com.seowon.coding.domain.dto;
+
+import java.util.List;
+
+/**
+ * 대량 import 결과
+ *
+ * @param errors          행 단위 오류 (최대 ProductImportService.MAX_REPORTED_ERRORS 건)
+ * @param errorsTruncated 오류가 더 있었지만 잘렸는지 여부 (전체 건수는 failed)
+ */
+public record ProductImportResult(
+        long rows,
+        long inserted,
+        long updated,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+    /**
+     * @param line 입력 파일 기준 행 번호 (CSV 는 헤더가 1행)
+     */
+    public record RowError(long line, Long id, String message) {
+    }
+}
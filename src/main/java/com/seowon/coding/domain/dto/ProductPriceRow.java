@@ -0,0 +1,13 @@
+package com.seowon.coding.domain.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 가격 계산용 읽기 전용 projection (영속성 컨텍스트에 올라가지 않는다)
+ */
+public record ProductPriceRow(
+        Long id,
+        String name,
+        BigDecimal price
+) {
+}
@@ -0,0 +1,20 @@
+package com.seowon.coding.domain.dto;
+
+import com.seowon.coding.domain.model.Product;
+
+import java.math.BigDecimal;
+
+public record ProductResponse(
+        Long id,
+        String name,
+        String description,
+        BigDecimal price,
+        int stockQuantity,
+        String category,
+        Long version
+) {
+    public static ProductResponse from(Product p) {
+        return new ProductResponse(p.getId(), p.getName(), p.getDescription(), p.getPrice(),
+                p.getStockQuantity(), p.getCategory(), p.getVersion());
+    }
+}
@@ -0,0 +1,18 @@
+package com.seowon.coding.domain.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 검색 결과 페이지 (랭킹 순)
+ */
+public record SearchPage<T>(
+        List<T> content,
+        int page,
+        int size,
+        long totalHits
+) {
+    public <R> SearchPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new SearchPage<>(content.stream().<R>map(mapper).toList(), page, size, totalHits);
+    }
+}
@@ -0,0 +1,40 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 로 처리한 요청의 결과 (IdempotencyStore 참고)
+ * status 가 0 이면 아직 처리 중인 요청이다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expiresAt"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    /** 요청 본문의 SHA-256. 같은 key 로 다른 요청이 오면 거절한다. */
+    @Column(length = 64, nullable = false)
+    private String fingerprint;
+
+    private int status;
+
+    private Long resourceId;
+
+    private LocalDateTime expiresAt;
+}
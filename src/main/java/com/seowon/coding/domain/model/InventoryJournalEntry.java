@@ -0,0 +1,34 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 product.stock_quantity 에 반영되지 않은 재고 차감 기록 (InventoryLedger 참고)
+ * 주문과 같은 트랜잭션으로 저장되고, 반영(flush)되면 삭제된다.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryJournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long productId;
+
+    private int quantity;
+
+    private LocalDateTime createdAt;
+}
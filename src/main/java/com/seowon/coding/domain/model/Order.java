@@ -1,10 +1,14 @@
 package com.seowon.coding.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.seowon.coding.stats.OrderStatsListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -12,15 +16,21 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders") // "order" is a reserved keyword in SQL
+@Table(name = "orders", // "order" is a reserved keyword in SQL
+        indexes = @Index(name = "idx_orders_customer_history", columnList = "customerEmail, orderDate desc, id"))
+@EntityListeners(OrderStatsListener.class)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
     
+    /**
+     * IDENTITY 는 insert 마다 round-trip 이 생겨 JDBC batch 가 꺼지므로 sequence 를 50개씩 미리 받는다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
     
     private String customerName;
@@ -37,6 +47,27 @@ public class Order {
     private List<OrderItem> items = new ArrayList<>();
     
     private BigDecimal totalAmount;
+
+    /**
+     * 낙관적 락 + ETag 용 (items 컬렉션 변경 시에도 증가)
+     */
+    @Version
+    private Long version;
+
+    /**
+     * OrderStatsListener 가 마지막으로 집계에 반영한 상태 / 금액 (컬럼 아님)
+     */
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private OrderStatus statsStatus;
+
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private BigDecimal statsAmount;
     
     // Business logic
     public void addItem(OrderItem item) {
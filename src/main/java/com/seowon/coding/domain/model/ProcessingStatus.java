@@ -30,7 +30,7 @@ public class ProcessingStatus {
     private LocalDateTime updatedAt;
 
     public enum Status {
-        RUNNING, COMPLETED, FAILED
+        PENDING, RUNNING, COMPLETED, FAILED, CANCELLED
     }
 
     public void markRunning(int total) {
@@ -54,4 +54,9 @@ public class ProcessingStatus {
         this.status = Status.FAILED;
         this.updatedAt = LocalDateTime.now();
     }
+
+    public void markCancelled() {
+        this.status = Status.CANCELLED;
+        this.updatedAt = LocalDateTime.now();
+    }
 }
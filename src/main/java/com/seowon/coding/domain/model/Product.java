@@ -1,10 +1,16 @@
 package com.seowon.coding.domain.model;
 
+import com.seowon.coding.inventory.StockLevelListener;
+import com.seowon.coding.policy.CompiledPriceAdjustment;
 import com.seowon.coding.policy.PriceAdjustmentPolicy;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -15,6 +21,11 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_product_category", columnList = "category"),
+        @Index(name = "idx_product_stock", columnList = "stockQuantity, id")
+})
+@EntityListeners(StockLevelListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -36,6 +47,12 @@ public class Product {
     private int stockQuantity;
     
     private String category;
+
+    /**
+     * 낙관적 락 + ETag 용. JPA 를 거치지 않는 UPDATE 문도 함께 올려야 한다.
+     */
+    @Version
+    private Long version;
     
     // Business logic
     public boolean isInStock() {
@@ -60,4 +77,8 @@ public class Product {
     public void updatePrice(PriceAdjustmentPolicy policy) {
         this.price = policy.apply(this.price);
     }
+
+    public void updatePrice(CompiledPriceAdjustment adjustment) {
+        this.price = adjustment.apply(this.price);
+    }
 }
\ No newline at end of file
@@ -1,11 +1,19 @@
 package com.seowon.coding.domain.repository;
 
+import com.seowon.coding.domain.dto.OrderItemRow;
+import com.seowon.coding.domain.dto.OrderRow;
 import com.seowon.coding.domain.model.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -15,4 +23,65 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByStatus(Order.OrderStatus status);
     
     List<Order> findByOrderDateBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * ETag 비교용. 엔티티를 로딩하지 않고 version 컬럼만 읽는다.
+     */
+    @Query("select o.version from Order o where o.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.seowon.coding.domain.dto.OrderRow("
+            + "o.id, o.customerName, o.customerEmail, o.status, o.orderDate, o.totalAmount, o.version) "
+            + "from Order o order by o.id")
+    List<OrderRow> findAllRows();
+
+    @Query("select new com.seowon.coding.domain.dto.OrderRow("
+            + "o.id, o.customerName, o.customerEmail, o.status, o.orderDate, o.totalAmount, o.version) "
+            + "from Order o where o.id = :id")
+    Optional<OrderRow> findRowById(@Param("id") Long id);
+
+    /**
+     * 고객 주문 내역 첫 페이지. idx_orders_customer_history (customerEmail, orderDate desc, id) 순서 그대로 읽는다.
+     */
+    @Query("select new com.seowon.coding.domain.dto.OrderRow("
+            + "o.id, o.customerName, o.customerEmail, o.status, o.orderDate, o.totalAmount, o.version) "
+            + "from Order o where o.customerEmail = :email "
+            + "order by o.orderDate desc, o.id")
+    List<OrderRow> findHistoryRows(@Param("email") String email, Limit limit);
+
+    /**
+     * 고객 주문 내역 다음 페이지. (orderDate desc, id asc) keyset 이라 offset 없이 인덱스에서 바로 이어 읽는다.
+     */
+    @Query("select new com.seowon.coding.domain.dto.OrderRow("
+            + "o.id, o.customerName, o.customerEmail, o.status, o.orderDate, o.totalAmount, o.version) "
+            + "from Order o where o.customerEmail = :email "
+            + "and (o.orderDate < :afterDate or (o.orderDate = :afterDate and o.id > :afterId)) "
+            + "order by o.orderDate desc, o.id")
+    List<OrderRow> findHistoryRowsAfter(@Param("email") String email,
+                                        @Param("afterDate") LocalDateTime afterDate,
+                                        @Param("afterId") Long afterId,
+                                        Limit limit);
+
+    /**
+     * 주문 집계 적재 / 보정용 (OrderStatsStore). 엔티티를 읽지 않고 GROUP BY 한 번으로 끝난다.
+     */
+    @Query("select o.status as status, count(o) as orders, sum(o.totalAmount) as amount "
+            + "from Order o where o.status is not null group by o.status")
+    List<StatusTotalRow> sumByStatus();
+
+    interface StatusTotalRow {
+        Order.OrderStatus getStatus();
+
+        long getOrders();
+
+        BigDecimal getAmount();
+    }
+
+    @Query("select new com.seowon.coding.domain.dto.OrderItemRow(i.order.id, i.id, i.product.id, i.quantity, i.price) "
+            + "from OrderItem i order by i.order.id, i.id")
+    List<OrderItemRow> findAllItemRows();
+
+    @Query("select new com.seowon.coding.domain.dto.OrderItemRow(i.order.id, i.id, i.product.id, i.quantity, i.price) "
+            + "from OrderItem i where i.order.id in :orderIds order by i.order.id, i.id")
+    List<OrderItemRow> findItemRowsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
\ No newline at end of file
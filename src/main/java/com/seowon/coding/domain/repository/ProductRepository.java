@@ -1,17 +1,149 @@
 package com.seowon.coding.domain.repository;
 
+import com.seowon.coding.domain.dto.ProductPriceRow;
 import com.seowon.coding.domain.model.Product;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     
     List<Product> findByCategory(String category);
     
     List<Product> findByNameContainingIgnoreCase(String name);
     
     List<Product> findByStockQuantityGreaterThan(int minStock);
-}
\ No newline at end of file
+
+    long countByIdIn(Collection<Long> ids);
+
+    @Query("select p.id from Product p where p.category = :category order by p.id")
+    List<Long> findIdsByCategory(@Param("category") String category);
+
+    @Query("select p.id from Product p where p.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select count(p) from Product p where p.id in :ids and p.price <= :min")
+    long countByIdInAndPriceAtMost(@Param("ids") Collection<Long> ids, @Param("min") BigDecimal min);
+
+    @Query("select count(p) from Product p where p.category = :category and p.price <= :min")
+    long countByCategoryAndPriceAtMost(@Param("category") String category, @Param("min") BigDecimal min);
+
+    /**
+     * id 기준 keyset 페이지 조회 (offset 없이 PK 인덱스만 탄다)
+     */
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * 전체 상품을 커서로 흘려보낸다. 호출 측에서 반드시 stream 을 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Product p order by p.id")
+    Stream<Product> streamAll();
+
+    /**
+     * 조건부 재고 차감. 재고가 부족하면 아무 행도 바꾸지 않는다.
+     * 엔티티를 읽거나 락을 잡지 않고 UPDATE 한 번으로 끝나며, 반환값(1 / 0)이 성공 여부다.
+     * 영속성 컨텍스트의 Product 는 갱신되지 않으므로 호출 측에서 다시 읽어야 한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 "
+            + "where p.id = :id and p.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * decreaseStockIfAvailable 의 보상(되돌리기)용
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.stockQuantity = p.stockQuantity + :quantity, p.version = p.version + 1 "
+            + "where p.id = :id")
+    int increaseStockBy(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 재고 차감용 일괄 조회. 쿼리 한 번으로 id 오름차순 행 락(PESSIMISTIC_WRITE)을 건다.
+     * 모든 호출이 같은 순서로 락을 잡으므로 여러 상품 주문끼리 교착 상태가 생기지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000"))
+    @Query("select p from Product p where p.id in :ids order by p.id")
+    List<Product> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 재고 인덱스 적재 전 low-stock 조회용. (stockQuantity, id) keyset
+     */
+    @Query("select p from Product p where p.stockQuantity < :below "
+            + "and (p.stockQuantity > :afterQuantity or (p.stockQuantity = :afterQuantity and p.id > :afterId)) "
+            + "order by p.stockQuantity, p.id")
+    List<Product> findLowStockAfter(@Param("below") int below,
+                                    @Param("afterQuantity") int afterQuantity,
+                                    @Param("afterId") long afterId,
+                                    Limit limit);
+
+    /**
+     * ETag 비교용. 엔티티를 로딩하지 않고 version 컬럼만 읽는다.
+     */
+    @Query("select p.version from Product p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select new com.seowon.coding.domain.dto.ProductPriceRow(p.id, p.name, p.price) "
+            + "from Product p where p.id in :ids order by p.id")
+    List<ProductPriceRow> findPriceRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.seowon.coding.domain.dto.ProductPriceRow(p.id, p.name, p.price) "
+            + "from Product p where p.category = :category and p.id > :after order by p.id")
+    List<ProductPriceRow> findPriceRowsByCategoryAfter(@Param("category") String category,
+                                                       @Param("after") Long after,
+                                                       Limit limit);
+
+    /**
+     * 메모리 인덱스 적재용 projection (엔티티를 만들지 않는다)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p.id as id, p.name as name, p.description as description, p.category as category, "
+            + "p.stockQuantity as stockQuantity, p.version as version from Product p")
+    Stream<IndexRow> streamIndexRows();
+
+    /**
+     * 재고 인덱스 보정용 projection (StockLevelReconciler)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p.id as id, p.stockQuantity as stockQuantity from Product p")
+    Stream<StockRow> streamStockRows();
+
+    interface IndexRow {
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+
+        String getCategory();
+
+        int getStockQuantity();
+
+        Long getVersion();
+    }
+
+    interface StockRow {
+        Long getId();
+
+        int getStockQuantity();
+    }
+}
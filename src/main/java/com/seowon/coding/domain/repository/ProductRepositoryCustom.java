@@ -0,0 +1,16 @@
+package com.seowon.coding.domain.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * 엔티티를 읽지 않는 set 기반 가격 변경
+ * price = ROUND(price * multiplier, 0) (HALF_UP) 을 DB 에서 바로 수행한다.
+ * 실행 후 영속성 컨텍스트를 비우므로 호출 전에 로딩한 Product 는 다시 조회해야 한다.
+ */
+public interface ProductRepositoryCustom {
+
+    int multiplyPrice(Collection<Long> ids, BigDecimal multiplier);
+
+    int multiplyPriceByCategory(String category, BigDecimal multiplier);
+}
@@ -0,0 +1,55 @@
+package com.seowon.coding.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    /** IN 절 하나에 넣을 최대 id 수 */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int multiplyPrice(Collection<Long> ids, BigDecimal multiplier) {
+        String sql = multiplySql(multiplier) + " where id in (:ids)";
+        List<Long> all = new ArrayList<>(ids);
+        entityManager.flush();
+        int updated = 0;
+        for (int from = 0; from < all.size(); from += IN_CHUNK_SIZE) {
+            updated += entityManager.createNativeQuery(sql)
+                    .setParameter("ids", all.subList(from, Math.min(all.size(), from + IN_CHUNK_SIZE)))
+                    .executeUpdate();
+        }
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public int multiplyPriceByCategory(String category, BigDecimal multiplier) {
+        entityManager.flush();
+        int updated = entityManager.createNativeQuery(multiplySql(multiplier) + " where category = :category")
+                .setParameter("category", category)
+                .executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    /**
+     * 배수는 바인딩 파라미터가 아니라 리터럴로 넣는다.
+     * 파라미터로 넘기면 DB 가 price 컬럼 타입(scale 2)으로 맞춰버려 배수가 잘릴 수 있다.
+     * (BigDecimal 을 toPlainString 으로만 만들기 때문에 SQL injection 여지는 없다)
+     */
+    private static String multiplySql(BigDecimal multiplier) {
+        if (multiplier.signum() <= 0) {
+            throw new IllegalArgumentException("multiplier must be positive: " + multiplier);
+        }
+        return "update product set price = round(price * " + multiplier.toPlainString() + ", 0), version = version + 1";
+    }
+}
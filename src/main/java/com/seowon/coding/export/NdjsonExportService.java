@@ -0,0 +1,122 @@
+package com.seowon.coding.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.OrderItemRow;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 / 주문 전체를 NDJSON(한 줄에 JSON 하나)으로 내보낸다.
+ *
+ * - forward-only ScrollableResults 로 한 건씩 읽는다. 결과 전체를 List 로 만들지 않는다.
+ * - 쓴 엔티티는 바로 detach 하고, CHUNK_SIZE 건마다 출력 스트림을 flush 한다.
+ *   트랜잭션은 export 동안 유지되지만 영속성 컨텍스트는 비어 있는 상태로 유지된다.
+ * - 주문 항목은 주문 CHUNK_SIZE 건마다 projection 쿼리 한 번으로 가져온다 (주문별 lazy 로딩 없음).
+ */
+@Service
+@RequiredArgsConstructor
+public class NdjsonExportService {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 내보낸 건수
+     */
+    @Transactional(readOnly = true)
+    public long exportProducts(OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator gen = newGenerator(out);
+             ScrollableResults<Product> rows = scroll("from Product p order by p.id", Product.class)) {
+            while (rows.next()) {
+                Product product = rows.get();
+                writeLine(gen, product);
+                entityManager.detach(product);
+                if (++written % CHUNK_SIZE == 0) {
+                    gen.flush();
+                }
+            }
+        }
+        return written;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportOrders(OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator gen = newGenerator(out);
+             ScrollableResults<Order> rows = scroll("from Order o order by o.id", Order.class)) {
+            List<Order> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (rows.next()) {
+                chunk.add(rows.get());
+                if (chunk.size() == CHUNK_SIZE) {
+                    written += writeOrders(gen, chunk);
+                    chunk.clear();
+                }
+            }
+            written += writeOrders(gen, chunk);
+        }
+        return written;
+    }
+
+    private int writeOrders(JsonGenerator gen, List<Order> orders) throws IOException {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<OrderItemRow>> items = orderRepository.findItemRowsByOrderIdIn(
+                        orders.stream().map(Order::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(OrderItemRow::orderId));
+        for (Order order : orders) {
+            writeLine(gen, OrderResponse.of(order, items.getOrDefault(order.getId(), List.of())));
+            entityManager.detach(order);
+        }
+        gen.flush();
+        return orders.size();
+    }
+
+    private <T> ScrollableResults<T> scroll(String hql, Class<T> type) {
+        return entityManager.unwrap(Session.class)
+                .createSelectionQuery(hql, type)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(CHUNK_SIZE)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    private static void writeLine(JsonGenerator gen, Object value) throws IOException {
+        gen.writeObject(value);
+        gen.writeRaw('\n');
+    }
+
+    /**
+     * 루트 값 사이 기본 구분자(공백)는 끄고 writeLine 에서 줄바꿈을 직접 쓴다.
+     * 스트림은 호출한 쪽이 닫는다.
+     */
+    private JsonGenerator newGenerator(OutputStream out) throws IOException {
+        JsonGenerator gen = objectMapper.createGenerator(out);
+        gen.setRootValueSeparator(null);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return gen;
+    }
+}
@@ -0,0 +1,283 @@
+package com.seowon.coding.idempotency;
+
+import com.seowon.coding.util.ThreadFactories;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 (같은 key 의 요청은 한 번만 실행하고 이후에는 저장된 결과를 돌려준다)
+ *
+ * - 최근 결과는 크기 제한 LRU 캐시에, 전체는 idempotency_record 테이블에 TTL 동안 둔다.
+ * - 같은 key 로 동시에 들어온 요청은 먼저 온 요청의 future 를 함께 기다린다. (이 프로세스 안)
+ * - 실행 전에 key 를 상태 0(처리 중) 으로 insert 해서 선점한다. PK 충돌이면 다른 요청(다른 인스턴스 포함)이
+ *   이미 처리했거나 처리 중이므로 실행하지 않는다.
+ * - 4xx 같은 확정된 결과만 저장한다. 429 / 5xx 는 다시 시도할 수 있도록 선점을 풀어준다.
+ * - 같은 key 로 본문이 다른 요청이 오면 422.
+ * - 결과 저장 / 선점 해제는 전용 스레드에서 한다. 주문 future 는 OrderIngestionService 의 배치 워커가 완료시키므로
+ *   그 스레드에서 JDBC 를 실행하면 다음 배치가 그만큼 늦어진다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final int PENDING = 0;
+
+    private static final String CLAIM =
+            "insert into idempotency_record (idempotency_key, fingerprint, status, resource_id, expires_at) "
+                    + "values (?, ?, " + PENDING + ", null, ?)";
+    private static final String SELECT =
+            "select fingerprint, status, resource_id from idempotency_record where idempotency_key = ?";
+    private static final String COMPLETE =
+            "update idempotency_record set status = ?, resource_id = ?, expires_at = ? where idempotency_key = ?";
+    private static final String RELEASE =
+            "delete from idempotency_record where idempotency_key = ? and status = " + PENDING;
+    private static final String DELETE_EXPIRED_KEY =
+            "delete from idempotency_record where idempotency_key = ? and expires_at < ?";
+    private static final String PURGE =
+            "delete from idempotency_record where expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final int maxSize;
+    private final LinkedHashMap<String, Entry> recent;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService bookkeeping;
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate,
+                            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                            @Value("${idempotency.cache.max-size:10000}") int maxSize,
+                            @Value("${idempotency.bookkeeping-threads:2}") int bookkeepingThreads,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("max-size must be positive");
+        }
+        if (bookkeepingThreads <= 0) {
+            throw new IllegalArgumentException("bookkeeping-threads must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookkeeping = Executors.newFixedThreadPool(bookkeepingThreads,
+                ThreadFactories.named("idempotency-", virtualThreads));
+        this.ttl = Duration.ofHours(ttlHours);
+        this.maxSize = maxSize;
+        // accessOrder = true -> LRU
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > IdempotencyStore.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * key 로 처음 들어온 요청이면 action 을 실행하고 결과를 저장한다.
+     * 이미 결과가 있으면 replayed = true 인 결과를, 다른 곳에서 처리 중이면 409 를 돌려준다.
+     */
+    public CompletableFuture<Result> execute(String key, String fingerprint, Supplier<CompletableFuture<Result>> action) {
+        Result cached = cached(key, fingerprint);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<Result> mine = new CompletableFuture<>();
+        InFlight existing = inFlight.putIfAbsent(key, new InFlight(fingerprint, mine));
+        if (existing != null) {
+            return existing.fingerprint().equals(fingerprint)
+                    ? existing.future().thenApply(Result::replay)
+                    : CompletableFuture.completedFuture(Result.MISMATCH);
+        }
+        CompletableFuture<Result> led;
+        try {
+            led = lead(key, fingerprint, action);
+        } catch (RuntimeException e) {
+            led = CompletableFuture.failedFuture(e);
+        }
+        led.whenComplete((result, ex) -> {
+            inFlight.remove(key);
+            if (ex != null) {
+                mine.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            } else {
+                mine.complete(result);
+            }
+        });
+        return mine;
+    }
+
+    /**
+     * 대기 중인 결과 저장은 마저 끝내고 종료한다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        bookkeeping.shutdown();
+        bookkeeping.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        try {
+            int purged = jdbcTemplate.update(PURGE, Timestamp.valueOf(LocalDateTime.now()));
+            if (purged > 0) {
+                log.debug("purged {} expired idempotency records", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("idempotency purge failed, will retry", e);
+        }
+    }
+
+    /**
+     * 요청 본문 비교용 SHA-256 (hex)
+     */
+    public static String fingerprint(String canonicalRequest) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonicalRequest.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CompletableFuture<Result> lead(String key, String fingerprint, Supplier<CompletableFuture<Result>> action) {
+        Result stored = claim(key, fingerprint);
+        if (stored != null) {
+            return CompletableFuture.completedFuture(stored);
+        }
+        CompletableFuture<Result> running;
+        try {
+            running = action.get();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+        // 응답은 저장이 끝난 뒤에 나가므로 응답을 받은 클라이언트의 재시도는 항상 저장된 결과를 본다.
+        return running.whenCompleteAsync((result, ex) -> {
+            if (ex == null && isFinal(result.status())) {
+                complete(key, fingerprint, result);
+            } else {
+                release(key);
+            }
+        }, bookkeeping);
+    }
+
+    /**
+     * @return 선점했으면 null, 이미 있는 key 면 그 결과
+     */
+    private Result claim(String key, String fingerprint) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(DELETE_EXPIRED_KEY, key, now);
+        try {
+            jdbcTemplate.update(CLAIM, key, fingerprint, Timestamp.valueOf(now.toLocalDateTime().plus(ttl)));
+            return null;
+        } catch (DuplicateKeyException e) {
+            try {
+                Entry entry = jdbcTemplate.queryForObject(SELECT,
+                        (rs, i) -> new Entry(rs.getString(1), rs.getInt(2), rs.getObject(3, Long.class), 0), key);
+                if (!entry.fingerprint().equals(fingerprint)) {
+                    return Result.MISMATCH;
+                }
+                if (entry.status() == PENDING) {
+                    return Result.IN_PROGRESS;
+                }
+                remember(key, entry.fingerprint(), entry.status(), entry.resourceId());
+                return new Result(entry.status(), entry.resourceId(), true);
+            } catch (EmptyResultDataAccessException gone) {
+                // 그 사이 선점이 풀림 -> 다시 시도하도록 처리 중으로 응답
+                return Result.IN_PROGRESS;
+            }
+        }
+    }
+
+    private void complete(String key, String fingerprint, Result result) {
+        try {
+            jdbcTemplate.update(COMPLETE, result.status(), result.resourceId(),
+                    Timestamp.valueOf(LocalDateTime.now().plus(ttl)), key);
+        } catch (RuntimeException e) {
+            // 결과는 이미 확정됐으므로 응답은 그대로 보낸다. 선점 행이 남아 있어 재시도는 409 가 된다.
+            log.warn("failed to store idempotency result for key {}", key, e);
+        }
+        remember(key, fingerprint, result.status(), result.resourceId());
+    }
+
+    private void release(String key) {
+        try {
+            jdbcTemplate.update(RELEASE, key);
+        } catch (RuntimeException e) {
+            log.warn("failed to release idempotency key {}", key, e);
+        }
+    }
+
+    private synchronized Result cached(String key, String fingerprint) {
+        Entry entry = recent.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            recent.remove(key);
+            return null;
+        }
+        if (!entry.fingerprint().equals(fingerprint)) {
+            return Result.MISMATCH;
+        }
+        return new Result(entry.status(), entry.resourceId(), true);
+    }
+
+    private synchronized void remember(String key, String fingerprint, int status, Long resourceId) {
+        recent.put(key, new Entry(fingerprint, status, resourceId, System.nanoTime() + ttl.toNanos()));
+    }
+
+    private static boolean isFinal(int status) {
+        return status != HttpStatus.TOO_MANY_REQUESTS.value() && status < 500;
+    }
+
+    /**
+     * @param status     HTTP status
+     * @param resourceId 생성된 리소스 id (없으면 null)
+     * @param replayed   저장된 결과를 돌려준 경우 true
+     */
+    public record Result(int status, Long resourceId, boolean replayed) {
+
+        /** 아무것도 재생하지 않은 응답이므로 replayed = false */
+        static final Result IN_PROGRESS = new Result(HttpStatus.CONFLICT.value(), null, false);
+        static final Result MISMATCH = new Result(HttpStatus.UNPROCESSABLE_ENTITY.value(), null, false);
+
+        public static Result of(HttpStatus status, Long resourceId) {
+            return new Result(status.value(), resourceId, false);
+        }
+
+        /**
+         * 먼저 온 요청의 결과를 함께 받는 경우. 그 결과가 409(처리 중) / 422(본문 불일치)면 그대로 둔다.
+         */
+        Result replay() {
+            return this == IN_PROGRESS || this == MISMATCH ? this : new Result(status, resourceId, true);
+        }
+    }
+
+    private record Entry(String fingerprint, int status, Long resourceId, long expiresAt) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<Result> future) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.seowon.coding.importer;
+
+import com.seowon.coding.domain.model.Product;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 첫 행은 헤더 (id,name,description,price,stockQuantity,category 순서 무관, id 는 생략 가능)
+ * RFC 4180 따옴표 규칙을 따르며 따옴표 안의 줄바꿈도 허용한다.
+ */
+class CsvProductRowReader implements ProductRowReader {
+
+    private static final List<String> COLUMNS =
+            List.of("id", "name", "description", "price", "stockquantity", "category");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> header = new HashMap<>();
+    private long line;
+
+    CsvProductRowReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        List<String> names = readRecord();
+        if (names == null) {
+            return;
+        }
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+            if (!COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown CSV column: " + names.get(i));
+            }
+            header.put(name, i);
+        }
+        if (!header.containsKey("name") || !header.containsKey("price")) {
+            throw new IllegalArgumentException("CSV header must contain name and price");
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        List<String> fields;
+        long start;
+        do {
+            start = line + 1;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() != header.size()) {
+            return Row.failed(start, "Expected " + header.size() + " columns but got " + fields.size());
+        }
+        try {
+            String id = field(fields, "id");
+            String price = field(fields, "price");
+            String stock = field(fields, "stockquantity");
+            return Row.ok(start, Product.builder()
+                    .id(id == null ? null : Long.valueOf(id))
+                    .name(field(fields, "name"))
+                    .description(field(fields, "description"))
+                    .price(price == null ? null : new BigDecimal(price))
+                    .stockQuantity(stock == null ? 0 : Integer.parseInt(stock))
+                    .category(field(fields, "category"))
+                    .build());
+        } catch (NumberFormatException e) {
+            return Row.failed(start, "Invalid number: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 빈 값은 null
+     */
+    private String field(List<String> fields, String column) {
+        Integer index = header.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 레코드 하나를 읽는다. 따옴표 안에 줄바꿈이 있으면 다음 줄까지 이어서 읽는다.
+     */
+    List<String> readRecord() throws IOException {
+        String text = reader.readLine();
+        if (text == null) {
+            return null;
+        }
+        line++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == text.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String nextLine = reader.readLine();
+                if (nextLine == null) {
+                    break;
+                }
+                line++;
+                current.append('\n');
+                text = nextLine;
+                i = 0;
+                continue;
+            }
+            char c = text.charAt(i++);
+            if (quoted) {
+                if (c == '"' && i < text.length() && text.charAt(i) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,46 @@
+package com.seowon.coding.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.seowon.coding.domain.model.Product;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 한 줄에 Product JSON 하나. 빈 줄은 건너뛴다. (null 처럼 객체가 아닌 값은 그 행의 오류)
+ */
+class NdjsonProductRowReader implements ProductRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader productReader;
+    private long line;
+
+    NdjsonProductRowReader(BufferedReader reader, ObjectReader productReader) {
+        this.reader = reader;
+        this.productReader = productReader.forType(Product.class);
+    }
+
+    @Override
+    public Row next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                Product product = productReader.readValue(text);
+                return product == null ? Row.failed(line, "Expected a JSON object") : Row.ok(line, product);
+            } catch (JsonProcessingException e) {
+                return Row.failed(line, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,240 @@
+package com.seowon.coding.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.cache.ProductCache;
+import com.seowon.coding.domain.dto.ProductImportResult;
+import com.seowon.coding.domain.dto.ProductImportResult.RowError;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.index.CategoryIndex;
+import com.seowon.coding.inventory.InventoryLedger;
+import com.seowon.coding.inventory.StockLevelIndex;
+import com.seowon.coding.search.ProductSearchIndex;
+import com.seowon.coding.util.TxUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 대량 import (NDJSON / CSV)
+ *
+ * - 입력은 한 행씩 읽고 CHUNK_SIZE 개만 버퍼에 모은다. 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ * - 각 행은 Product 의 Bean Validation 제약으로 검증한다.
+ * - id 가 있으면 UPDATE, 없으면 INSERT. chunk 하나가 트랜잭션 하나이고 JDBC batch 로 보낸다.
+ *   (엔티티/IDENTITY insert 를 거치지 않으므로 행마다 round-trip 이 생기지 않는다)
+ * - 없는 id 로의 UPDATE 는 해당 행만 오류로 보고한다.
+ * - chunk 가 DB 오류로 롤백되면 그 chunk 의 행 전체를 오류로 보고하고 다음 chunk 를 계속한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    public static final int CHUNK_SIZE = 500;
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private static final String INSERT_SQL =
+            "insert into product (name, description, price, stock_quantity, category, version) values (?, ?, ?, ?, ?, 0)";
+    private static final String UPDATE_SQL =
+            "update product set name = ?, description = ?, price = ?, stock_quantity = ?, category = ?, version = version + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ProductCache productCache;
+    private final CategoryIndex categoryIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final StockLevelIndex stockLevelIndex;
+    private final InventoryLedger inventoryLedger;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductImportResult importProducts(InputStream in, Format format, Charset charset) throws IOException {
+        BufferedReader buffered = new BufferedReader(new InputStreamReader(in, charset));
+        Report report = new Report();
+        try (ProductRowReader reader = format == Format.CSV
+                ? new CsvProductRowReader(buffered)
+                : new NdjsonProductRowReader(buffered, objectMapper.reader())) {
+            List<ProductRowReader.Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            ProductRowReader.Row row;
+            while ((row = reader.next()) != null) {
+                report.rows++;
+                String error = row.error() != null ? row.error() : validate(row.product());
+                if (error != null) {
+                    report.fail(row.line(), row.product() == null ? null : row.product().getId(), error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, report);
+            }
+        }
+        return report.toResult();
+    }
+
+    private String validate(Product product) {
+        Set<ConstraintViolation<Product>> violations = validator.validate(product);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void writeChunk(List<ProductRowReader.Row> chunk, Report report) {
+        List<ProductRowReader.Row> updates = chunk.stream().filter(r -> r.product().getId() != null).toList();
+        List<ProductRowReader.Row> inserts = chunk.stream().filter(r -> r.product().getId() == null).toList();
+        ChunkOutcome outcome;
+        try {
+            outcome = new TransactionTemplate(transactionManager).execute(status -> {
+                List<Product> written = new ArrayList<>(chunk.size());
+                List<RowError> missing = new ArrayList<>();
+
+                int[] counts = update(updates);
+                for (int i = 0; i < counts.length; i++) {
+                    Product p = updates.get(i).product();
+                    if (counts[i] == 0) {
+                        missing.add(new RowError(updates.get(i).line(), p.getId(), "Product not found with id: " + p.getId()));
+                    } else {
+                        written.add(p);
+                    }
+                }
+                List<Long> keys = insert(inserts);
+                for (int i = 0; i < inserts.size(); i++) {
+                    Product p = inserts.get(i).product();
+                    p.setId(keys.get(i));
+                    written.add(p);
+                }
+
+                productCache.invalidateAll(updates.stream().map(r -> r.product().getId()).toList());
+                TxUtils.afterCommit(() -> written.forEach(p -> {
+                    categoryIndex.put(p.getId(), p.getCategory());
+                    productSearchIndex.put(p.getId(), p.getName(), p.getDescription());
+                    stockLevelIndex.update(p.getId(), p.getStockQuantity(), null);
+                    inventoryLedger.resync(p.getId());
+                }));
+                return new ChunkOutcome(written.size() - inserts.size(), inserts.size(), missing);
+            });
+        } catch (DataAccessException | TransactionException e) {
+            String message = "Chunk rolled back: " + e.getMostSpecificCause().getMessage();
+            chunk.forEach(r -> report.fail(r.line(), r.product().getId(), message));
+            return;
+        }
+        report.updated += outcome.updated();
+        report.inserted += outcome.inserted();
+        outcome.missing().forEach(e -> report.fail(e.line(), e.id(), e.message()));
+    }
+
+    private int[] update(List<ProductRowReader.Row> rows) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, row) -> {
+            bind(ps, row.product());
+            ps.setLong(6, row.product().getId());
+        });
+        return counts[0];
+    }
+
+    /**
+     * 생성된 id 를 받아야 인덱스를 갱신할 수 있으므로 generated keys 를 켠 batch 로 보낸다.
+     */
+    private List<Long> insert(List<ProductRowReader.Row> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (ProductRowReader.Row row : rows) {
+                    bind(ps, row.product());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> keys = new ArrayList<>(rows.size());
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        keys.add(rs.getLong(1));
+                    }
+                }
+                if (keys.size() != rows.size()) {
+                    throw new SQLException("Expected " + rows.size() + " generated keys but got " + keys.size());
+                }
+                return keys;
+            }
+        });
+    }
+
+    private static void bind(PreparedStatement ps, Product p) throws SQLException {
+        ps.setString(1, p.getName());
+        if (p.getDescription() == null) {
+            ps.setNull(2, Types.VARCHAR);
+        } else {
+            ps.setString(2, p.getDescription());
+        }
+        ps.setBigDecimal(3, p.getPrice());
+        ps.setInt(4, p.getStockQuantity());
+        if (p.getCategory() == null) {
+            ps.setNull(5, Types.VARCHAR);
+        } else {
+            ps.setString(5, p.getCategory());
+        }
+    }
+
+    private record ChunkOutcome(int updated, int inserted, List<RowError> missing) {
+    }
+
+    /**
+     * 오류는 MAX_REPORTED_ERRORS 건까지만 보관하고 이후는 건수만 센다.
+     */
+    private static final class Report {
+        long rows;
+        long inserted;
+        long updated;
+        long failed;
+        final List<RowError> errors = new ArrayList<>();
+
+        void fail(long line, Long id, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, id, message));
+            }
+        }
+
+        ProductImportResult toResult() {
+            return new ProductImportResult(rows, inserted, updated, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
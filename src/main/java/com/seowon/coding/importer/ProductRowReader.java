@@ -0,0 +1,29 @@
+package com.seowon.coding.importer;
+
+import com.seowon.coding.domain.model.Product;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 입력을 한 행씩 읽는다. 전체를 메모리에 올리지 않는다.
+ * 파싱에 실패한 행은 예외 대신 error 를 담아 돌려주고 다음 행으로 넘어간다.
+ */
+interface ProductRowReader extends Closeable {
+
+    /**
+     * @return 다음 행, 입력이 끝났으면 null
+     */
+    Row next() throws IOException;
+
+    record Row(long line, Product product, String error) {
+
+        static Row ok(long line, Product product) {
+            return new Row(line, product, null);
+        }
+
+        static Row failed(long line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.seowon.coding.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * category -> 정렬된 product id 목록 인덱스
+ *
+ * - 조회는 락 없이 concurrent 자료구조에서 바로 읽는다.
+ * - 갱신(put/remove)은 커밋 이후에만 호출되어야 한다. (ProductService 참고)
+ * - 기동 시 전체 적재(ProductIndexInitializer)가 끝나기 전에는 사용하지 않는다. (idsOf 가 empty 반환)
+ */
+@Component
+public class CategoryIndex {
+
+    private final Map<String, Set<Long>> idsByCategory = new ConcurrentHashMap<>();
+    private final Map<Long, String> categoryById = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * 인덱스가 준비되지 않았으면 empty (호출 측에서 DB 조회로 대체)
+     */
+    public Optional<List<Long>> idsOf(String category) {
+        if (!ready || category == null) {
+            return Optional.empty();
+        }
+        Set<Long> ids = idsByCategory.get(category);
+        return Optional.of(ids == null ? List.of() : List.copyOf(ids));
+    }
+
+    public synchronized void put(Long id, String category) {
+        String previous = category == null ? categoryById.remove(id) : categoryById.put(id, category);
+        if (previous != null && !previous.equals(category)) {
+            removeFromCategory(previous, id);
+        }
+        if (category != null) {
+            idsByCategory.computeIfAbsent(category, c -> new ConcurrentSkipListSet<>()).add(id);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        String previous = categoryById.remove(id);
+        if (previous != null) {
+            removeFromCategory(previous, id);
+        }
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void removeFromCategory(String category, Long id) {
+        Set<Long> ids = idsByCategory.get(category);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByCategory.remove(category);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.seowon.coding.index;
+
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.StockLevelIndex;
+import com.seowon.coding.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 기동 시 상품 테이블을 한 번만 훑어서 메모리 인덱스들을 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductIndexInitializer {
+
+    private final ProductRepository productRepository;
+    private final CategoryIndex categoryIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final StockLevelIndex stockLevelIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try (Stream<ProductRepository.IndexRow> rows = productRepository.streamIndexRows()) {
+            rows.forEach(row -> {
+                categoryIndex.put(row.getId(), row.getCategory());
+                productSearchIndex.put(row.getId(), row.getName(), row.getDescription());
+                stockLevelIndex.load(row.getId(), row.getStockQuantity(), row.getVersion());
+            });
+        }
+        categoryIndex.markReady();
+        productSearchIndex.markReady();
+        stockLevelIndex.markReady();
+    }
+}
@@ -0,0 +1,296 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.cache.ProductCache;
+import com.seowon.coding.util.TxUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 재고 원장 (inventory.ledger.enabled=true 일 때만 사용)
+ *
+ * - 상품별 가용 재고를 padding 된 counter 에 두고 CAS 로 차감한다. DB 행 락을 기다리지 않는다.
+ *   counter 는 처음 쓰일 때 product.stock_quantity 로 채운다.
+ * - counter 는 마지막으로 알고 있는 product.stock_quantity 도 함께 들고 있다. 이 값은 flush / resync 에서만
+ *   (flushLock 안에서) 바꾸며, 원장 밖에서 재고가 바뀌면 그 차이만큼만 가용 재고에 더한다.
+ * - 차감 내역은 주문과 같은 트랜잭션에서 inventory_journal_entry 에 기록한다.
+ *   주기적으로 상품별로 합산해 product 에 한 번의 batch UPDATE 로 반영하고, 반영한 기록은 지운다.
+ * - product.stock_quantity + 남은 journal 이 항상 실제 재고이므로 프로세스가 죽어도 잃는 것이 없다.
+ *   기동 시 남은 journal 을 먼저 반영한 뒤(reconcile)에만 원장을 연다.
+ * - 원장이 열리기 전에는 isActive() 가 false 이고 호출 측은 DB 조건부 차감을 쓴다.
+ */
+@Slf4j
+@Component
+public class InventoryLedger {
+
+    private static final String SELECT_JOURNAL =
+            "select id, product_id, quantity from inventory_journal_entry order by id limit ?";
+    private static final String INSERT_JOURNAL =
+            "insert into inventory_journal_entry (product_id, quantity, created_at) values (?, ?, ?)";
+    private static final String APPLY_DELTA =
+            "update product set stock_quantity = stock_quantity - ?, version = version + 1 where id = ?";
+    private static final int DELETE_CHUNK_SIZE = 1_000;
+
+    private final boolean enabled;
+    private final int flushBatchSize;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCache productCache;
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean ready;
+
+    public InventoryLedger(@Value("${inventory.ledger.enabled:false}") boolean enabled,
+                           @Value("${inventory.ledger.flush-batch-size:10000}") int flushBatchSize,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ProductCache productCache) {
+        this.enabled = enabled;
+        this.flushBatchSize = flushBatchSize;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.productCache = productCache;
+    }
+
+    public boolean isActive() {
+        return enabled && ready;
+    }
+
+    /**
+     * 기동 시 이전 프로세스가 남긴 journal 을 모두 반영한 뒤 원장을 연다.
+     * 다른 인덱스들이 재고를 읽기 전에 끝나야 하므로 가장 먼저 실행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        int applied;
+        long total = 0;
+        while ((applied = flushOnce()) > 0) {
+            total += applied;
+        }
+        ready = true;
+        log.info("inventory ledger ready ({} journal entries reconciled)", total);
+    }
+
+    /**
+     * 전부 확보되거나 하나도 확보되지 않는다. (quantities 는 id 오름차순)
+     * 호출한 트랜잭션이 롤백되면 확보한 재고를 되돌리고, 커밋되면 journal 이 남는다.
+     *
+     * @throws IllegalStateException 재고 부족
+     */
+    public void reserve(SortedMap<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("reserve requires an active transaction");
+        }
+        List<Map.Entry<Long, Integer>> taken = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> e : quantities.entrySet()) {
+            if (!counter(e.getKey()).tryTake(e.getValue())) {
+                taken.forEach(t -> counters.get(t.getKey()).release(t.getValue()));
+                throw new IllegalStateException("insufficient stock for product " + e.getKey());
+            }
+            taken.add(e);
+        }
+
+        TxUtils.afterRollback(() -> taken.forEach(t -> counters.get(t.getKey()).release(t.getValue())));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_JOURNAL, taken, taken.size(), (ps, t) -> {
+            ps.setLong(1, t.getKey());
+            ps.setInt(2, t.getValue());
+            ps.setTimestamp(3, now);
+        });
+    }
+
+    /**
+     * JPA / import 처럼 원장을 거치지 않고 재고를 직접 바꾼 경우 커밋 후에 호출한다.
+     * flush 와 겹치지 않도록 flushLock 안에서 커밋된 재고를 다시 읽고, 알고 있던 값과의 차이만 가용 재고에 더한다.
+     * (journal 반영 대기 중인 차감과 진행 중인 예약은 가용 재고에 이미 빠져 있으므로 다시 계산하지 않는다)
+     */
+    public void resync(Long id) {
+        Counter counter = counters.get(id);
+        if (counter == null) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            Integer stock = jdbcTemplate.queryForObject(
+                    "select stock_quantity from product where id = ?", Integer.class, id);
+            counter.resync(stock == null ? 0 : stock);
+        } catch (EmptyResultDataAccessException e) {
+            counters.remove(id);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        counters.remove(id);
+    }
+
+    public long available(Long id) {
+        Counter counter = counters.get(id);
+        return counter == null ? -1 : counter.available();
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval-ms:200}")
+    public void flush() {
+        if (!isActive()) {
+            return;
+        }
+        try {
+            while (flushOnce() == flushBatchSize) {
+                // 밀린 journal 은 한 번에 이어서 반영
+            }
+        } catch (RuntimeException e) {
+            log.warn("inventory ledger flush failed, will retry", e);
+        }
+    }
+
+    /**
+     * journal 최대 flushBatchSize 건을 상품별로 합산해 id 오름차순 batch UPDATE 후 삭제한다. (한 트랜잭션)
+     * 삭제는 읽은 id 로만 하므로 그 사이 커밋된 journal 은 다음 flush 에서 반영된다.
+     * @return 반영한 journal 건수
+     */
+    int flushOnce() {
+        flushLock.lock();
+        try {
+            SortedMap<Long, Integer> deltas = new TreeMap<>();
+            List<Long> entryIds = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.query(SELECT_JOURNAL, rs -> {
+                    entryIds.add(rs.getLong(1));
+                    deltas.merge(rs.getLong(2), rs.getInt(3), Integer::sum);
+                }, flushBatchSize);
+                if (entryIds.isEmpty()) {
+                    return;
+                }
+                List<Map.Entry<Long, Integer>> rows = new ArrayList<>(deltas.entrySet());
+                jdbcTemplate.batchUpdate(APPLY_DELTA, rows, rows.size(), (ps, row) -> {
+                    ps.setInt(1, row.getValue());
+                    ps.setLong(2, row.getKey());
+                });
+                for (int from = 0; from < entryIds.size(); from += DELETE_CHUNK_SIZE) {
+                    List<Long> chunk = entryIds.subList(from, Math.min(entryIds.size(), from + DELETE_CHUNK_SIZE));
+                    jdbcTemplate.update("delete from inventory_journal_entry where id in ("
+                            + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")", chunk.toArray());
+                }
+                TxUtils.afterCommit(() -> {
+                    deltas.forEach((id, qty) -> {
+                        Counter counter = counters.get(id);
+                        if (counter != null) {
+                            counter.flushed(qty);
+                        }
+                    });
+                    productCache.invalidateAll(deltas.keySet());
+                });
+            });
+            return entryIds.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private Counter counter(Long id) {
+        return counters.computeIfAbsent(id, key -> {
+            try {
+                Integer stock = jdbcTemplate.queryForObject(
+                        "select stock_quantity from product where id = ?", Integer.class, key);
+                return new Counter(stock == null ? 0 : stock);
+            } catch (EmptyResultDataAccessException e) {
+                throw new IllegalArgumentException("Product not found: " + key);
+            }
+        });
+    }
+
+    /**
+     * 이웃한 counter 와 같은 cache line 에 놓이지 않도록 앞뒤로 padding 한다.
+     * (필드 배치는 JVM 이 바꿀 수 있으므로 상속 단계로 나눈다)
+     */
+    @SuppressWarnings("unused")
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private static class Values extends LeftPadding {
+        /** 지금 예약할 수 있는 수량 */
+        volatile long available;
+        /** 마지막으로 알고 있는 product.stock_quantity (flushLock 안에서만 읽고 쓴다) */
+        long stock;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Counter extends Values {
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        private static final VarHandle AVAILABLE;
+
+        static {
+            try {
+                AVAILABLE = MethodHandles.lookup().findVarHandle(Values.class, "available", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        Counter(long stock) {
+            this.available = stock;
+            this.stock = stock;
+        }
+
+        long available() {
+            return available;
+        }
+
+        boolean tryTake(int quantity) {
+            long current;
+            do {
+                current = available;
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!AVAILABLE.compareAndSet(this, current, current - quantity));
+            return true;
+        }
+
+        void release(int quantity) {
+            AVAILABLE.getAndAdd(this, (long) quantity);
+        }
+
+        /** journal 이 product 에 반영됨 (가용 재고는 예약 때 이미 빠졌다) */
+        void flushed(int quantity) {
+            stock -= quantity;
+        }
+
+        /** 원장 밖에서 바뀐 만큼만 가용 재고에 더한다. 예약과 경쟁해도 getAndAdd 라 잃는 값이 없다. */
+        void resync(int stockQuantity) {
+            long delta = stockQuantity - stock;
+            stock = stockQuantity;
+            AVAILABLE.getAndAdd(this, delta);
+        }
+    }
+}
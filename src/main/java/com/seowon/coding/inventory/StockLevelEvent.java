@@ -0,0 +1,22 @@
+package com.seowon.coding.inventory;
+
+import java.time.Instant;
+
+/**
+ * 재고가 임계값(threshold)을 넘나들 때 하나씩 생긴다.
+ * DROPPED: previousQuantity > threshold >= quantity
+ * RECOVERED: previousQuantity <= threshold < quantity
+ */
+public record StockLevelEvent(
+        long sequence,
+        Long productId,
+        int threshold,
+        Direction direction,
+        int previousQuantity,
+        int quantity,
+        Instant at
+) {
+    public enum Direction {
+        DROPPED, RECOVERED
+    }
+}
@@ -0,0 +1,205 @@
+package com.seowon.coding.inventory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * (stockQuantity, id) 순으로 정렬된 재고 인덱스 + 임계값 통과 이벤트 피드
+ *
+ * - "재고 N 미만" 조회는 정렬된 집합의 앞부분만 잘라 읽으므로 상품 테이블을 훑지 않는다.
+ * - 갱신은 커밋 이후에만 호출되어야 한다. (StockLevelListener 참고)
+ *   커밋 순서와 afterCommit 실행 순서가 다를 수 있어 version 이 더 낮은 갱신은 버린다.
+ * - 이벤트는 최근 MAX_EVENTS 건만 보관한다. 소비자는 마지막으로 받은 sequence 이후를 폴링한다.
+ * - 기동 시 전체 적재(ProductIndexInitializer)가 끝나기 전에는 사용하지 않는다.
+ * - adjust 는 상대값이라 절대값 update 와 순서가 뒤바뀌면 어긋난 채로 남는다.
+ *   StockLevelReconciler 가 주기적으로 실제 재고와 비교해 같은 차이가 연속 두 번 보일 때만 고친다(reconcile).
+ */
+@Component
+public class StockLevelIndex {
+
+    public static final int MAX_EVENTS = 10_000;
+
+    private static final Comparator<Entry> BY_QUANTITY =
+            Comparator.comparingInt(Entry::quantity).thenComparingLong(Entry::id);
+
+    private final int[] thresholds;
+    private final NavigableSet<Entry> byQuantity = new ConcurrentSkipListSet<>(BY_QUANTITY);
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> lastDrift = new ConcurrentHashMap<>();
+    private final Deque<StockLevelEvent> events = new ArrayDeque<>();
+    private long lastSequence;
+    private volatile boolean ready;
+
+    public StockLevelIndex(@Value("${inventory.stock.thresholds:0,10}") int[] thresholds) {
+        this.thresholds = Arrays.stream(thresholds).sorted().distinct().toArray();
+    }
+
+    /**
+     * 기동 시 적재용. 이벤트를 만들지 않고, 적재 중에 이미 더 최신 값이 들어왔으면 무시한다.
+     */
+    public synchronized void load(Long id, int quantity, Long version) {
+        long v = version == null ? 0 : version;
+        Entry previous = byId.get(id);
+        if (previous != null && previous.version() >= v) {
+            return;
+        }
+        replace(previous, new Entry(id, quantity, v));
+    }
+
+    /**
+     * @param version null 이면 순서 검사 없이 반영 (JPA 밖 UPDATE 처럼 version 을 모르는 경우)
+     */
+    public synchronized void update(Long id, int quantity, Long version) {
+        Entry previous = byId.get(id);
+        if (previous != null && version != null && previous.version() > version) {
+            return;
+        }
+        long nextVersion = version != null ? version : previous == null ? 0 : previous.version() + 1;
+        replace(previous, new Entry(id, quantity, nextVersion));
+        if (previous != null) {
+            publishCrossings(id, previous.quantity(), quantity);
+        }
+    }
+
+    /**
+     * 현재 값에 delta 를 더한다. (조건부 UPDATE / 원장 차감처럼 결과 값을 모르는 경우)
+     * 실제 version 을 모르므로 version 은 그대로 둔다. 임의로 올리면 이후 들어오는 진짜 version 의 갱신이 버려진다.
+     */
+    public synchronized void adjust(Long id, int delta) {
+        Entry previous = byId.get(id);
+        if (previous == null || delta == 0) {
+            return;
+        }
+        int quantity = previous.quantity() + delta;
+        replace(previous, new Entry(id, quantity, previous.version()));
+        publishCrossings(id, previous.quantity(), quantity);
+    }
+
+    /**
+     * 실제 재고와 비교해 직전 실행과 같은 차이가 남아 있으면 보정한다.
+     * 커밋 직후 아직 반영되지 않은 변경 때문에 생기는 일시적인 차이는 다음 실행에서 사라지므로 고치지 않는다.
+     * @return 보정했으면 true
+     */
+    public synchronized boolean reconcile(Long id, int actualQuantity) {
+        Entry previous = byId.get(id);
+        if (previous == null) {
+            return false;
+        }
+        int drift = actualQuantity - previous.quantity();
+        if (drift == 0) {
+            lastDrift.remove(id);
+            return false;
+        }
+        Integer last = lastDrift.put(id, drift);
+        if (last == null || last != drift) {
+            return false;
+        }
+        lastDrift.remove(id);
+        replace(previous, new Entry(id, actualQuantity, previous.version()));
+        publishCrossings(id, previous.quantity(), actualQuantity);
+        return true;
+    }
+
+    public synchronized void remove(Long id) {
+        lastDrift.remove(id);
+        Entry previous = byId.remove(id);
+        if (previous != null) {
+            byQuantity.remove(previous);
+        }
+    }
+
+    public Optional<Integer> quantityOf(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(Entry::quantity);
+    }
+
+    /**
+     * 재고가 below 미만인 상품을 (재고, id) 오름차순으로 최대 limit 건.
+     * afterQuantity/afterId 는 직전 페이지 마지막 항목 (첫 페이지는 null)
+     */
+    public List<StockLevel> below(int below, Integer afterQuantity, Long afterId, int limit) {
+        if (afterQuantity != null && afterQuantity >= below) {
+            return List.of();
+        }
+        Entry to = new Entry(Long.MIN_VALUE, below, 0);
+        NavigableSet<Entry> range = afterQuantity == null
+                ? byQuantity.headSet(to, false)
+                : byQuantity.subSet(new Entry(afterId == null ? Long.MIN_VALUE : afterId, afterQuantity, 0), false, to, false);
+        List<StockLevel> result = new ArrayList<>(Math.min(limit, 128));
+        for (Entry e : range) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(new StockLevel(e.id(), e.quantity()));
+        }
+        return result;
+    }
+
+    public synchronized List<StockLevelEvent> eventsAfter(long sequence, int limit) {
+        List<StockLevelEvent> result = new ArrayList<>(Math.min(limit, events.size()));
+        for (StockLevelEvent event : events) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (event.sequence() > sequence) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void replace(Entry previous, Entry next) {
+        if (previous != null) {
+            byQuantity.remove(previous);
+        }
+        byId.put(next.id(), next);
+        byQuantity.add(next);
+    }
+
+    private void publishCrossings(Long id, int previous, int current) {
+        if (previous == current) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (int threshold : thresholds) {
+            StockLevelEvent.Direction direction = null;
+            if (previous > threshold && current <= threshold) {
+                direction = StockLevelEvent.Direction.DROPPED;
+            } else if (previous <= threshold && current > threshold) {
+                direction = StockLevelEvent.Direction.RECOVERED;
+            }
+            if (direction != null) {
+                if (events.size() == MAX_EVENTS) {
+                    events.removeFirst();
+                }
+                events.addLast(new StockLevelEvent(++lastSequence, id, threshold, direction, previous, current, now));
+            }
+        }
+    }
+
+    public record StockLevel(Long productId, int quantity) {
+    }
+
+    private record Entry(long id, int quantity, long version) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.util.TxUtils;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 가 JPA 로 저장/삭제될 때 (decreaseStock / increaseStock 포함) 재고 인덱스를 따라가게 한다.
+ * Hibernate 가 Spring bean 으로 생성하므로 주입을 받을 수 있다.
+ * JPA 를 거치지 않는 UPDATE 는 호출한 쪽에서 StockLevelIndex 를 직접 갱신해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockLevelListener {
+
+    private final StockLevelIndex stockLevelIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Product product) {
+        Long id = product.getId();
+        int quantity = product.getStockQuantity();
+        Long version = product.getVersion();
+        TxUtils.afterCommit(() -> stockLevelIndex.update(id, quantity, version));
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        Long id = product.getId();
+        TxUtils.afterCommit(() -> stockLevelIndex.remove(id));
+    }
+}
@@ -0,0 +1,50 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 주기적으로 상품 재고와 비교해 StockLevelIndex 의 어긋난 항목을 보정한다.
+ * 메모리 원장이 켜져 있으면 DB 재고는 journal 반영 전 값이므로 원장의 가용 재고와 비교한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockLevelReconciler {
+
+    private final ProductRepository productRepository;
+    private final StockLevelIndex stockLevelIndex;
+    private final InventoryLedger inventoryLedger;
+
+    @Scheduled(fixedDelayString = "${inventory.stock.reconcile-interval-ms:60000}",
+            initialDelayString = "${inventory.stock.reconcile-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        if (!stockLevelIndex.isReady()) {
+            return;
+        }
+        boolean ledger = inventoryLedger.isActive();
+        int[] corrected = {0};
+        try (Stream<ProductRepository.StockRow> rows = productRepository.streamStockRows()) {
+            rows.forEach(row -> {
+                long available = ledger ? inventoryLedger.available(row.getId()) : -1;
+                int actual = available >= 0 ? (int) available : row.getStockQuantity();
+                if (stockLevelIndex.reconcile(row.getId(), actual)) {
+                    corrected[0]++;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("stock level reconciliation failed, will retry", e);
+            return;
+        }
+        if (corrected[0] > 0) {
+            log.warn("stock level index drift corrected for {} products", corrected[0]);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.seowon.coding.policy;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * 한 번만 계산해 둔 가격 변경 정책 (PriceAdjustmentPolicy#compile 로 생성)
+ *
+ * PriceAdjustmentPolicy#apply 는 호출마다 new BigDecimal(double) 을 두 번 만들고
+ * 50자리가 넘는 값끼리 곱한다. 여기서는
+ * - 두 배수를 곱한 정확한 배수(exact)를 한 번만 계산해 두고
+ * - 평소에는 16자리(DECIMAL64)로 줄인 배수(approx)로 곱한 뒤
+ * - 오차 범위 안에 반올림 경계(x.5)가 걸리는 경우에만 exact 로 다시 계산한다.
+ * 따라서 결과는 apply 와 항상 같다.
+ */
+public final class CompiledPriceAdjustment {
+
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    private final BigDecimal exact;
+    private final BigDecimal approx;
+    /** |exact - approx| 이상인 한 자리 유효숫자 값 */
+    private final BigDecimal errorBound;
+
+    CompiledPriceAdjustment(BigDecimal exact) {
+        this.exact = exact;
+        this.approx = exact.round(MathContext.DECIMAL64);
+        BigDecimal diff = exact.subtract(approx).abs();
+        this.errorBound = diff.signum() == 0 ? BigDecimal.ZERO : diff.round(new MathContext(1, RoundingMode.UP));
+    }
+
+    public BigDecimal apply(BigDecimal price) {
+        BigDecimal approximated = price.multiply(approx);
+        BigDecimal rounded = approximated.setScale(0, RoundingMode.HALF_UP);
+        if (errorBound.signum() == 0) {
+            return rounded;
+        }
+        // 정확한 값은 approximated 에서 |price| * errorBound 이내에 있다.
+        // 그 범위가 반올림 경계에 닿지 않으면 반올림 결과도 같다.
+        BigDecimal distance = approximated.subtract(rounded).abs()
+                .add(price.abs().multiply(errorBound));
+        if (distance.compareTo(HALF) < 0) {
+            return rounded;
+        }
+        return price.multiply(exact).setScale(0, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 가격 배열 전체에 적용한 새 배열을 반환
+     */
+    public BigDecimal[] applyAll(BigDecimal[] prices) {
+        BigDecimal[] result = new BigDecimal[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            result[i] = apply(prices[i]);
+        }
+        return result;
+    }
+
+    /**
+     * PriceAdjustmentPolicy#multiplier 와 같은 정확한 배수
+     */
+    public BigDecimal multiplier() {
+        return exact;
+    }
+}
@@ -8,6 +8,12 @@ public record PriceAdjustmentPolicy(
         double percentage,
         double taxRate
 ) {
+    public static final double DEFAULT_TAX_RATE = 1.1;
+
+    public static PriceAdjustmentPolicy of(double percentage, boolean includeTax) {
+        return new PriceAdjustmentPolicy(includeTax, percentage, DEFAULT_TAX_RATE);
+    }
+
     public BigDecimal apply(BigDecimal currentPrice
     ) {
 
@@ -21,4 +27,23 @@ public record PriceAdjustmentPolicy(
         //원단위로 올림
         return newPrice.setScale(0, RoundingMode.HALF_UP);
     }
+
+    /**
+     * apply 와 같은 결과를 내는 단일 배수
+     * double 의 이진 전개를 그대로 곱한 정확한 값이므로 price * multiplier 를 HALF_UP 으로 반올림하면 apply 와 동일하다.
+     */
+    public BigDecimal multiplier() {
+        BigDecimal multiplier = new BigDecimal(1 + (percentage / 100.0));
+        if (includeTax) {
+            multiplier = multiplier.multiply(new BigDecimal(1 + (taxRate / 100.0)));
+        }
+        return multiplier;
+    }
+
+    /**
+     * 대량 적용용. 배수를 한 번만 계산해 두고 재사용한다.
+     */
+    public CompiledPriceAdjustment compile() {
+        return new CompiledPriceAdjustment(multiplier());
+    }
 }
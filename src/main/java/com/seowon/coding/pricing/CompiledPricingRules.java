@@ -0,0 +1,46 @@
+package com.seowon.coding.pricing;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 한 번 컴파일해서 통째로 교체하는 가격 규칙 묶음 (불변)
+ */
+final class CompiledPricingRules {
+
+    private final PricingRuleDefinition definition;
+    private final ShippingRule shippingRule;
+    private final CouponRule couponRule;
+    private final List<DiscountRule> discountRules;
+
+    private CompiledPricingRules(PricingRuleDefinition definition, ShippingRule shippingRule,
+                                 CouponRule couponRule, List<DiscountRule> discountRules) {
+        this.definition = definition;
+        this.shippingRule = shippingRule;
+        this.couponRule = couponRule;
+        this.discountRules = discountRules;
+    }
+
+    static CompiledPricingRules compile(PricingRuleDefinition definition, List<DiscountRule> discountRules) {
+        if (definition.freeShippingThreshold() == null || definition.shippingFee() == null) {
+            throw new IllegalArgumentException("shipping rule required");
+        }
+        return new CompiledPricingRules(definition,
+                ShippingRule.freeOver(definition.freeShippingThreshold(), definition.shippingFee()),
+                CouponTable.compile(definition.coupons() == null ? List.of() : definition.coupons()),
+                List.copyOf(discountRules));
+    }
+
+    PricingRuleDefinition definition() {
+        return definition;
+    }
+
+    PriceQuote quote(BigDecimal subtotal, String couponCode) {
+        BigDecimal shipping = shippingRule.shippingFor(subtotal);
+        BigDecimal discount = couponRule.discountFor(couponCode);
+        for (DiscountRule rule : discountRules) {
+            discount = discount.add(rule.discountFor(subtotal, couponCode));
+        }
+        return new PriceQuote(subtotal, shipping, discount, subtotal.add(shipping).subtract(discount));
+    }
+}
@@ -0,0 +1,12 @@
+package com.seowon.coding.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * 쿠폰 코드로 할인 금액을 정한다. (적용할 쿠폰이 없으면 0)
+ */
+@FunctionalInterface
+public interface CouponRule {
+
+    BigDecimal discountFor(String couponCode);
+}
@@ -0,0 +1,100 @@
+package com.seowon.coding.pricing;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 컴파일된 쿠폰 표 (불변, 여러 스레드가 lock 없이 읽는다)
+ *
+ * - 정확히 일치하는 쿠폰: HashMap 한 번 (O(1))
+ * - prefix 쿠폰: 문자 단위 trie 를 코드 길이만큼 내려가며 마지막으로 만난 할인 = 가장 긴 prefix
+ *   자식은 정렬된 char 배열 + 이진 탐색이라 박싱 / 해시 없이 탐색한다.
+ * 쿠폰 수와 관계없이 비용은 코드 길이에만 비례한다.
+ */
+final class CouponTable implements CouponRule {
+
+    private final Map<String, BigDecimal> exact;
+    private final Node prefixes;
+
+    private CouponTable(Map<String, BigDecimal> exact, Node prefixes) {
+        this.exact = exact;
+        this.prefixes = prefixes;
+    }
+
+    static CouponTable compile(List<PricingRuleDefinition.Coupon> coupons) {
+        Map<String, BigDecimal> exact = new HashMap<>();
+        Builder root = new Builder();
+        for (PricingRuleDefinition.Coupon c : coupons) {
+            if (c.code() == null || c.code().isEmpty() || c.amount() == null || c.amount().signum() < 0) {
+                throw new IllegalArgumentException("invalid coupon: " + c);
+            }
+            if (c.prefix()) {
+                Builder node = root;
+                for (int i = 0; i < c.code().length(); i++) {
+                    node = node.children.computeIfAbsent(c.code().charAt(i), k -> new Builder());
+                }
+                node.amount = c.amount();
+            } else {
+                exact.put(c.code(), c.amount());
+            }
+        }
+        return new CouponTable(Map.copyOf(exact), root.build());
+    }
+
+    @Override
+    public BigDecimal discountFor(String couponCode) {
+        if (couponCode == null || couponCode.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal amount = exact.get(couponCode);
+        if (amount != null) {
+            return amount;
+        }
+        BigDecimal longest = BigDecimal.ZERO;
+        Node node = prefixes;
+        for (int i = 0; i < couponCode.length() && node != null; i++) {
+            node = node.child(couponCode.charAt(i));
+            if (node != null && node.amount != null) {
+                longest = node.amount;
+            }
+        }
+        return longest;
+    }
+
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final BigDecimal amount;
+
+        private Node(char[] keys, Node[] children, BigDecimal amount) {
+            this.keys = keys;
+            this.children = children;
+            this.amount = amount;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i < 0 ? null : children[i];
+        }
+    }
+
+    private static final class Builder {
+        private final TreeMap<Character, Builder> children = new TreeMap<>();
+        private BigDecimal amount;
+
+        Node build() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder> e : children.entrySet()) {
+                keys[i] = e.getKey();
+                nodes[i++] = e.getValue().build();
+            }
+            return new Node(keys, nodes, amount);
+        }
+    }
+}
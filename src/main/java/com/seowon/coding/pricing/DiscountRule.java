@@ -0,0 +1,15 @@
+package com.seowon.coding.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * 쿠폰 외 추가 할인 플러그인. Spring bean 으로 등록하면 PricingEngine 이 모두 더해서 적용한다.
+ */
+@FunctionalInterface
+public interface DiscountRule {
+
+    /**
+     * @return 할인 금액 (없으면 0)
+     */
+    BigDecimal discountFor(BigDecimal subtotal, String couponCode);
+}
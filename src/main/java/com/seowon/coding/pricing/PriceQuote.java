@@ -0,0 +1,14 @@
+package com.seowon.coding.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * total = subtotal + shipping - discount
+ */
+public record PriceQuote(
+        BigDecimal subtotal,
+        BigDecimal shipping,
+        BigDecimal discount,
+        BigDecimal total
+) {
+}
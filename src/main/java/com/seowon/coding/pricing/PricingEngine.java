@@ -0,0 +1,42 @@
+package com.seowon.coding.pricing;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주문 가격 계산 (배송비 + 쿠폰 + 추가 할인 플러그인)
+ *
+ * - 규칙은 reload 때 한 번 컴파일해서 AtomicReference 로 통째로 교체한다.
+ *   checkout 은 참조를 한 번 읽어 그 규칙 묶음으로 끝까지 계산하므로 lock 이 없고,
+ *   교체 도중에도 옛 규칙과 새 규칙이 섞이지 않는다.
+ * - DiscountRule bean 은 기동 시 주입받아 모든 규칙 묶음에 포함한다.
+ */
+@Component
+public class PricingEngine {
+
+    private final List<DiscountRule> discountRules;
+    private final AtomicReference<CompiledPricingRules> rules = new AtomicReference<>();
+
+    public PricingEngine(List<DiscountRule> discountRules) {
+        this.discountRules = List.copyOf(discountRules);
+        reload(PricingRuleDefinition.DEFAULT);
+    }
+
+    public PriceQuote quote(BigDecimal subtotal, String couponCode) {
+        return rules.get().quote(subtotal, couponCode);
+    }
+
+    /**
+     * @throws IllegalArgumentException 잘못된 규칙 (기존 규칙은 그대로 유지된다)
+     */
+    public void reload(PricingRuleDefinition definition) {
+        rules.set(CompiledPricingRules.compile(definition, discountRules));
+    }
+
+    public PricingRuleDefinition currentDefinition() {
+        return rules.get().definition();
+    }
+}
@@ -0,0 +1,27 @@
+package com.seowon.coding.pricing;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 가격 규칙 설정 (PricingEngine#reload 로 컴파일해서 적용)
+ *
+ * @param coupons prefix = true 이면 code 로 시작하는 모든 쿠폰, 여러 개가 맞으면 가장 긴 것.
+ *                정확히 일치하는 쿠폰이 prefix 보다 우선한다.
+ */
+public record PricingRuleDefinition(
+        BigDecimal freeShippingThreshold,
+        BigDecimal shippingFee,
+        List<Coupon> coupons
+) {
+    /**
+     * 기존 checkoutOrder 규칙: 100.00 이상 무료배송 (아니면 5.00), SALE 로 시작하는 쿠폰 10.00 할인
+     */
+    public static final PricingRuleDefinition DEFAULT = new PricingRuleDefinition(
+            new BigDecimal("100.00"),
+            new BigDecimal("5.00"),
+            List.of(new Coupon("SALE", true, new BigDecimal("10.00"))));
+
+    public record Coupon(String code, boolean prefix, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.seowon.coding.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 합계로 배송비를 정한다.
+ */
+@FunctionalInterface
+public interface ShippingRule {
+
+    BigDecimal shippingFor(BigDecimal subtotal);
+
+    /**
+     * threshold 이상이면 무료, 아니면 fee
+     */
+    static ShippingRule freeOver(BigDecimal threshold, BigDecimal fee) {
+        return subtotal -> subtotal.compareTo(threshold) >= 0 ? BigDecimal.ZERO : fee;
+    }
+}
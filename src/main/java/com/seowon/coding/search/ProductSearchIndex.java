@@ -0,0 +1,248 @@
+package com.seowon.coding.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 name / description 에 대한 trigram 역색인
+ *
+ * - 단어마다 모든 3-gram 과 앞 1~2글자 prefix 키("^a", "^ab")를 색인한다.
+ * - 검색어는 공백으로 나눈 토큰 단위로 AND 검색한다.
+ *   - 3글자 이상 토큰: 부분 문자열 검색 (trigram posting 교집합 후 실제 포함 여부 확인)
+ *   - 1~2글자 토큰: 단어 prefix 검색 (타이핑 중인 검색창 용도)
+ * - 조회 비용은 카탈로그 크기가 아니라 posting 크기에 비례한다.
+ *   후보마다 점수만 매기고, 정렬은 필요한 상위 limit 건만 크기 limit 의 heap 으로 한다.
+ *   name / description 의 단어는 put 할 때 한 번만 나눠 Doc 에 둔다.
+ * - 갱신(put/remove)은 커밋 이후에만 호출되어야 한다. (ProductService 참고)
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String PREFIX_MARK = "^";
+    private static final int GRAM = 3;
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparingInt(Hit::nameLength)
+            .thenComparing(Hit::id);
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public synchronized void put(Long id, String name, String description) {
+        Doc doc = Doc.of(normalize(name), normalize(description));
+        Set<String> keys = keysOf(doc);
+        Doc previous = docs.put(id, doc);
+        if (previous != null) {
+            for (String key : keysOf(previous)) {
+                if (!keys.contains(key)) {
+                    removePosting(key, id);
+                }
+            }
+        }
+        for (String key : keys) {
+            postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        Doc previous = docs.remove(id);
+        if (previous != null) {
+            for (String key : keysOf(previous)) {
+                removePosting(key, id);
+            }
+        }
+    }
+
+    /**
+     * 검색어에 맞는 상품 id 를 랭킹 순으로 모두 반환
+     */
+    public List<Long> search(String query) {
+        return search(query, Integer.MAX_VALUE).ids();
+    }
+
+    /**
+     * 검색어에 맞는 상품 중 랭킹 상위 limit 건과 전체 건수
+     * 랭킹: name 이 검색어로 시작 > name 에 포함 > description 에만 포함, 동점이면 짧은 name, id 순
+     */
+    public Hits search(String query, int limit) {
+        List<String> tokens = words(normalize(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return Hits.EMPTY;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String token : tokens) {
+            for (String key : queryKeys(token)) {
+                Set<Long> posting = postings.get(key);
+                if (posting == null || posting.isEmpty()) {
+                    return Hits.EMPTY;
+                }
+                lists.add(posting);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+
+        // 가장 낮은 순위가 맨 앞에 오는 크기 limit 의 heap
+        String phrase = String.join(" ", tokens);
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(limit, 64) + 1, RANKING.reversed());
+        int total = 0;
+        for (Long id : candidates) {
+            Doc doc = docs.get(id);
+            if (doc == null) {
+                continue;
+            }
+            int score = score(doc, phrase, tokens);
+            if (score <= 0) {
+                continue;
+            }
+            total++;
+            Hit hit = new Hit(id, score, doc.name().length());
+            if (top.size() < limit) {
+                top.add(hit);
+            } else if (RANKING.compare(hit, top.peek()) < 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        Long[] ids = new Long[top.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = top.poll().id();
+        }
+        return new Hits(List.of(ids), total);
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 모든 토큰이 맞아야 양수. 하나라도 안 맞으면 0 (trigram 후보 중 false positive 제거)
+     */
+    private static int score(Doc doc, String phrase, List<String> tokens) {
+        int score = 0;
+        for (String token : tokens) {
+            if (matches(doc.name(), doc.nameWords(), token)) {
+                score += 10;
+            } else if (matches(doc.description(), doc.descriptionWords(), token)) {
+                score += 3;
+            } else {
+                return 0;
+            }
+        }
+        if (doc.name().startsWith(phrase)) {
+            score += 100;
+        } else if (doc.name().contains(phrase)) {
+            score += 50;
+        }
+        return score;
+    }
+
+    private static boolean matches(String text, List<String> words, String token) {
+        if (token.length() >= GRAM) {
+            return text.contains(token);
+        }
+        for (String word : words) {
+            if (word.startsWith(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> keysOf(Doc doc) {
+        Set<String> keys = new HashSet<>();
+        addKeys(keys, doc.nameWords());
+        addKeys(keys, doc.descriptionWords());
+        return keys;
+    }
+
+    private static void addKeys(Set<String> keys, List<String> words) {
+        for (String word : words) {
+            keys.add(PREFIX_MARK + word.substring(0, 1));
+            if (word.length() >= 2) {
+                keys.add(PREFIX_MARK + word.substring(0, 2));
+            }
+            for (int i = 0; i + GRAM <= word.length(); i++) {
+                keys.add(word.substring(i, i + GRAM));
+            }
+        }
+    }
+
+    private static Set<String> queryKeys(String token) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (token.length() < GRAM) {
+            keys.add(PREFIX_MARK + token);
+            return keys;
+        }
+        for (int i = 0; i + GRAM <= token.length(); i++) {
+            keys.add(token.substring(i, i + GRAM));
+        }
+        return keys;
+    }
+
+    private static List<String> words(String text) {
+        if (text.isEmpty()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(text)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private void removePosting(String key, Long id) {
+        Set<Long> posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @param ids   랭킹 순 상위 id (최대 limit 건)
+     * @param total 검색어에 맞는 전체 상품 수
+     */
+    public record Hits(List<Long> ids, int total) {
+        static final Hits EMPTY = new Hits(List.of(), 0);
+    }
+
+    private record Doc(String name, String description, List<String> nameWords, List<String> descriptionWords) {
+
+        static Doc of(String name, String description) {
+            return new Doc(name, description, words(name), words(description));
+        }
+    }
+
+    private record Hit(Long id, int score, int nameLength) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.cache.ProductCache;
+import com.seowon.coding.domain.dto.BulkOrderResult;
+import com.seowon.coding.domain.dto.BulkOrderResult.Outcome;
+import com.seowon.coding.domain.dto.OrderRequestDto;
+import com.seowon.coding.domain.dto.ProductDto;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.InventoryLedger;
+import com.seowon.coding.inventory.StockLevelIndex;
+import com.seowon.coding.util.TxUtils;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 주문 (B2B 파트너 피드)
+ *
+ * - 모든 주문이 참조하는 상품을 한 번에 id 오름차순 행 락(findAllByIdForUpdate)으로 읽는다.
+ *   주문별 findById / 조건부 UPDATE 가 없고, 재고는 메모리에서 요청 순서대로 배정한 뒤
+ *   dirty checking 으로 상품당 UPDATE 한 번(JDBC batch)만 나간다.
+ * - 주문 / 항목은 sequence id 라 hibernate.jdbc.batch_size 단위로 batch insert 된다.
+ *   FLUSH_SIZE 건마다 flush 하고 주문은 영속성 컨텍스트에서 떼어내 메모리를 일정하게 유지한다.
+ * - 재고 부족 / 잘못된 주문은 그 주문만 실패로 기록하고 나머지는 진행한다. (전체가 한 트랜잭션)
+ * - 메모리 원장이 켜져 있으면 재고는 원장에서 주문 단위로 예약한다. (InventoryLedger)
+ */
+@Service
+public class BulkOrderService {
+
+    private static final int FLUSH_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final StockLevelIndex stockLevelIndex;
+    private final InventoryLedger inventoryLedger;
+    private final EntityManager entityManager;
+    private final int maxOrders;
+
+    public BulkOrderService(OrderRepository orderRepository,
+                            ProductRepository productRepository,
+                            ProductCache productCache,
+                            StockLevelIndex stockLevelIndex,
+                            InventoryLedger inventoryLedger,
+                            EntityManager entityManager,
+                            @Value("${orders.bulk.max-orders:1000}") int maxOrders) {
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.stockLevelIndex = stockLevelIndex;
+        this.inventoryLedger = inventoryLedger;
+        this.entityManager = entityManager;
+        this.maxOrders = maxOrders;
+    }
+
+    /**
+     * @throws IllegalArgumentException 목록이 비었거나 orders.bulk.max-orders 를 넘는 경우
+     */
+    @Transactional
+    public BulkOrderResult placeOrders(List<OrderRequestDto> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > maxOrders) {
+            throw new IllegalArgumentException("1 to " + maxOrders + " orders required");
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(requests.size());
+        List<SortedMap<Long, Integer>> requested = new ArrayList<>(requests.size());
+        TreeSet<Long> productIds = new TreeSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                SortedMap<Long, Integer> quantities = quantitiesOf(requests.get(i));
+                requested.add(quantities);
+                productIds.addAll(quantities.keySet());
+                outcomes.add(null);
+            } catch (IllegalArgumentException e) {
+                requested.add(null);
+                outcomes.add(Outcome.failed(i, e.getMessage()));
+            }
+        }
+
+        boolean ledger = inventoryLedger.isActive();
+        List<Product> loaded = productIds.isEmpty() ? List.of()
+                : ledger ? productRepository.findAllById(productIds)
+                : productRepository.findAllByIdForUpdate(productIds);
+        Map<Long, Product> products = loaded.stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Order> pending = new ArrayList<>(FLUSH_SIZE);
+        int succeeded = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            SortedMap<Long, Integer> quantities = requested.get(i);
+            if (quantities == null) {
+                continue;
+            }
+            String error = reserve(quantities, products, ledger);
+            if (error != null) {
+                outcomes.set(i, Outcome.failed(i, error));
+                continue;
+            }
+            Order order = orderRepository.save(newOrder(requests.get(i), products));
+            outcomes.set(i, Outcome.placed(i, order.getId()));
+            succeeded++;
+            pending.add(order);
+            if (pending.size() == FLUSH_SIZE) {
+                flushAndDetach(pending);
+            }
+        }
+        flushAndDetach(pending);
+
+        productCache.invalidateAll(productIds);
+        return new BulkOrderResult(succeeded, requests.size() - succeeded, outcomes);
+    }
+
+    /**
+     * @return 실패 사유, 성공하면 null (실패하면 아무것도 차감하지 않는다)
+     */
+    private String reserve(SortedMap<Long, Integer> quantities, Map<Long, Product> products, boolean ledger) {
+        for (Map.Entry<Long, Integer> e : quantities.entrySet()) {
+            Product p = products.get(e.getKey());
+            if (p == null) {
+                return "Product not found: " + e.getKey();
+            }
+            if (!ledger && p.getStockQuantity() < e.getValue()) {
+                return "insufficient stock for product " + e.getKey();
+            }
+        }
+        if (ledger) {
+            try {
+                inventoryLedger.reserve(quantities);
+            } catch (IllegalStateException e) {
+                return e.getMessage();
+            }
+            quantities.forEach((id, qty) -> TxUtils.afterCommit(() -> stockLevelIndex.adjust(id, -qty)));
+            return null;
+        }
+        // 행 락을 잡은 엔티티이므로 커밋까지 다른 트랜잭션이 재고를 바꿀 수 없다.
+        quantities.forEach((id, qty) -> products.get(id).decreaseStock(qty));
+        return null;
+    }
+
+    private Order newOrder(OrderRequestDto request, Map<Long, Product> products) {
+        Order order = Order.builder()
+                .customerName(request.getCustomerName())
+                .customerEmail(request.getCustomerEmail())
+                .status(Order.OrderStatus.PENDING)
+                .orderDate(LocalDateTime.now())
+                .build();
+        for (ProductDto line : request.getProducts()) {
+            order.addItem(OrderItem.builder()
+                    .product(products.get(line.getProductId()))
+                    .quantity(line.getQuantity())
+                    .price(products.get(line.getProductId()).getPrice())
+                    .build());
+        }
+        return order;
+    }
+
+    /**
+     * 상품은 계속 재고를 배정해야 하므로 clear 하지 않고 주문(+ 항목, cascade)만 떼어낸다.
+     */
+    private void flushAndDetach(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        orders.forEach(entityManager::detach);
+        orders.clear();
+    }
+
+    private static SortedMap<Long, Integer> quantitiesOf(OrderRequestDto request) {
+        if (request == null) {
+            throw new IllegalArgumentException("order required");
+        }
+        if (isBlank(request.getCustomerName()) || isBlank(request.getCustomerEmail())) {
+            throw new IllegalArgumentException("customer info required");
+        }
+        if (request.getProducts() == null || request.getProducts().isEmpty()) {
+            throw new IllegalArgumentException("products required");
+        }
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (ProductDto line : request.getProducts()) {
+            if (line == null || line.getProductId() == null || line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("invalid order line: "
+                        + (line == null ? null : line.getProductId() + " x " + line.getQuantity()));
+            }
+            quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+}
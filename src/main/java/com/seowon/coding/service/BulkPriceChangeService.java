@@ -0,0 +1,132 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.cache.ProductCache;
+import com.seowon.coding.domain.dto.BulkPriceChangeRequest;
+import com.seowon.coding.domain.dto.BulkPriceChangeResult;
+import com.seowon.coding.domain.dto.BulkPriceChangeResult.ChunkResult;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.policy.CompiledPriceAdjustment;
+import com.seowon.coding.policy.PriceAdjustmentPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 대량 가격 변경 실행기
+ *
+ * - ALL_OR_NOTHING: 기존 ProductService#applyBulkPriceChange (단일 트랜잭션)
+ * - CHUNKED: chunkSize 개씩 별도 트랜잭션으로 처리한다.
+ *   chunk 마다 price * multiplier UPDATE 문 한 번으로 처리하므로 엔티티를 읽지 않고
+ *   락도 chunk 단위로만 잡힌다.
+ *   실패한 chunk 만 롤백되고 나머지는 계속 진행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkPriceChangeService {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    public static final int MAX_CHUNK_SIZE = 5_000;
+
+    private final ProductService productService;
+    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkPriceChangeResult apply(BulkPriceChangeRequest request) {
+        PriceAdjustmentPolicy policy = PriceAdjustmentPolicy.of(request.getPercentage(), request.isIncludeTax());
+        if (request.getMode() == BulkPriceChangeRequest.Mode.CHUNKED) {
+            int chunkSize = request.getChunkSize() == null ? DEFAULT_CHUNK_SIZE : request.getChunkSize();
+            return applyInChunks(resolveIds(request), ProductService.requirePositive(policy.compile()), chunkSize);
+        }
+
+        if (request.getCategory() != null) {
+            int count = productService.applyCategoryPriceChange(
+                    request.getCategory(), request.getPercentage(), request.isIncludeTax());
+            return BulkPriceChangeResult.of(BulkPriceChangeRequest.Mode.ALL_OR_NOTHING,
+                    List.of(ChunkResult.succeeded(0, count, count, List.of())));
+        }
+        List<Long> ids = request.getProductIds();
+        productService.applyBulkPriceChange(ids, request.getPercentage(), request.isIncludeTax());
+        return BulkPriceChangeResult.of(BulkPriceChangeRequest.Mode.ALL_OR_NOTHING,
+                List.of(ChunkResult.succeeded(0, ids.size(), ids.size(), List.of())));
+    }
+
+    /**
+     * 바깥 트랜잭션이 있으면 chunk 커밋이 의미가 없으므로 NOT_SUPPORTED 로 끊고 시작한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkPriceChangeResult applyInChunks(List<Long> productIds, CompiledPriceAdjustment policy, int chunkSize) {
+        return applyInChunks(productIds, policy, chunkSize, chunk -> {}, () -> false);
+    }
+
+    /**
+     * @param onChunk   chunk 가 끝날 때마다 (커밋 또는 롤백 이후) 호출
+     * @param cancelled chunk 사이마다 확인해서 true 면 남은 chunk 는 실행하지 않는다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkPriceChangeResult applyInChunks(List<Long> productIds, CompiledPriceAdjustment policy, int chunkSize,
+                                               Consumer<ChunkResult> onChunk, BooleanSupplier cancelled) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new IllegalArgumentException("empty productIds");
+        }
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+
+        List<Long> ids = productIds.stream().distinct().toList();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<ChunkResult> results = new ArrayList<>();
+
+        for (int from = 0, chunk = 0; from < ids.size() && !cancelled.getAsBoolean(); from += chunkSize, chunk++) {
+            List<Long> chunkIds = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+            int chunkNo = chunk;
+            ChunkResult result;
+            try {
+                result = tx.execute(status -> applyChunk(chunkNo, chunkIds, policy));
+            } catch (RuntimeException e) {
+                result = ChunkResult.failed(chunkNo, chunkIds.size(), e.getMessage());
+            }
+            results.add(result);
+            onChunk.accept(result);
+        }
+        return BulkPriceChangeResult.of(BulkPriceChangeRequest.Mode.CHUNKED, results);
+    }
+
+    public List<Long> resolveIds(BulkPriceChangeRequest request) {
+        if (request.getCategory() != null) {
+            return productRepository.findIdsByCategory(request.getCategory());
+        }
+        return request.getProductIds();
+    }
+
+    /**
+     * chunk 하나를 UPDATE 문으로 처리한다. (엔티티를 읽지 않는다)
+     * 바뀐 행 수가 요청보다 적을 때만 id 를 다시 읽어 없는 상품을 찾는다.
+     * 반올림으로 0 이하가 된 가격이 있으면 예외를 던져 이 chunk 만 롤백시킨다.
+     */
+    private ChunkResult applyChunk(int chunk, List<Long> ids, CompiledPriceAdjustment policy) {
+        int updated = productRepository.multiplyPrice(ids, policy.multiplier());
+        List<Long> missing = List.of();
+        if (updated != ids.size()) {
+            Set<Long> found = new HashSet<>(productRepository.findIdsByIdIn(ids));
+            missing = ids.stream().filter(id -> !found.contains(id)).toList();
+        }
+        if (productRepository.countByIdInAndPriceAtMost(ids, BigDecimal.ZERO) > 0) {
+            throw new IllegalArgumentException("Price must be positive");
+        }
+        productCache.invalidateAll(ids);
+        return ChunkResult.succeeded(chunk, ids.size(), updated, missing);
+    }
+}
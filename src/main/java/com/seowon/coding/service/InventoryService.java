@@ -0,0 +1,75 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.LowStockItem;
+import com.seowon.coding.domain.dto.LowStockPage;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.StockLevelEvent;
+import com.seowon.coding.inventory.StockLevelIndex;
+import com.seowon.coding.inventory.StockLevelIndex.StockLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InventoryService {
+
+    public static final int MAX_EVENT_BATCH = 1_000;
+
+    private final ProductRepository productRepository;
+    private final StockLevelIndex stockLevelIndex;
+
+    /**
+     * 재고가 below 미만인 상품 (재고 오름차순)
+     * 인덱스에서 페이지 id 를 고르고, 이름/카테고리는 그 id 들만 PK 로 읽는다.
+     * 인덱스 적재 전에는 (stock_quantity, id) DB 인덱스를 타는 keyset 쿼리로 대체한다.
+     */
+    public LowStockPage getLowStock(int below, Integer afterQuantity, Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, ProductService.MAX_PAGE_SIZE));
+        if (!stockLevelIndex.isReady()) {
+            List<LowStockItem> rows = productRepository.findLowStockAfter(below,
+                            afterQuantity == null ? Integer.MIN_VALUE : afterQuantity,
+                            afterId == null ? Long.MIN_VALUE : afterId,
+                            Limit.of(pageSize + 1))
+                    .stream()
+                    .map(p -> new LowStockItem(p.getId(), p.getName(), p.getCategory(), p.getStockQuantity()))
+                    .toList();
+            return page(rows, pageSize);
+        }
+
+        List<StockLevel> levels = stockLevelIndex.below(below, afterQuantity, afterId, pageSize + 1);
+        Map<Long, Product> products = productRepository.findAllById(levels.stream().map(StockLevel::productId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<LowStockItem> rows = levels.stream()
+                .filter(l -> products.containsKey(l.productId()))
+                .map(l -> {
+                    Product p = products.get(l.productId());
+                    return new LowStockItem(l.productId(), p.getName(), p.getCategory(), l.quantity());
+                })
+                .toList();
+        return page(rows, pageSize);
+    }
+
+    public List<StockLevelEvent> getStockEvents(long after, int limit) {
+        return stockLevelIndex.eventsAfter(after, Math.max(1, Math.min(limit, MAX_EVENT_BATCH)));
+    }
+
+    private static LowStockPage page(List<LowStockItem> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<LowStockItem> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+        LowStockItem last = hasNext ? content.get(content.size() - 1) : null;
+        return new LowStockPage(content,
+                last == null ? null : last.stockQuantity(),
+                last == null ? null : last.productId(),
+                hasNext);
+    }
+}
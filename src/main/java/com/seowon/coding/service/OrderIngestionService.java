@@ -0,0 +1,209 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.util.LatencyHistogram;
+import com.seowon.coding.util.ThreadFactories;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주문 접수 단계 (group commit)
+ *
+ * - 동시에 들어온 주문을 큐에 모아 최대 max-batch-size 건, 최대 max-wait-ms 만큼 기다려 한 묶음으로 만든다.
+ * - 한 묶음은 트랜잭션 하나로 처리한다. Order / OrderItem 은 sequence id 라 insert 가 JDBC batch 로 나가고 커밋도 한 번이다.
+ * - 트랜잭션 시작 시 묶음 전체의 상품 행 락을 id 오름차순으로 한 번에 잡는다. (OrderService#lockProductsForBatch)
+ *   worker 가 여럿이어도 묶음끼리 락 순서가 같아 교착이 생기지 않는다.
+ * - 재고 부족 같은 주문 단위 실패는 그 주문의 변경만 되돌리고(OrderService#placeOrderInBatch) 나머지는 계속한다.
+ * - 결과는 커밋된 뒤에 알린다. 그 밖의 이유로 묶음 트랜잭션이 롤백되면 실패했던 주문까지 모두 각자 트랜잭션으로 다시 실행한다.
+ *   (롤백으로 풀린 재고 때문에 이번에는 성공할 수 있다)
+ * - 호출자는 자기 주문의 future 만 기다린다. 큐가 가득 차면 RejectedExecutionException 으로 실패한 future 를 받는다.
+ * - 큐 깊이, 접수/거절/완료/실패 건수, 접수~완료 지연 시간을 stats() 로 노출한다.
+ */
+@Service
+public class OrderIngestionService {
+
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final int queueCapacity;
+    private final List<Thread> workers = new ArrayList<>();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private volatile boolean running = true;
+
+    public OrderIngestionService(OrderService orderService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${orders.ingest.max-batch-size:100}") int maxBatchSize,
+                                 @Value("${orders.ingest.max-wait-ms:5}") long maxWaitMillis,
+                                 @Value("${orders.ingest.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${orders.ingest.workers:2}") int workerCount,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.orderService = orderService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        ThreadFactory threadFactory = ThreadFactories.named("order-ingest-", virtualThreads);
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = threadFactory.newThread(this::drainLoop);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public CompletableFuture<Order> submit(String customerName, String customerEmail,
+                                           List<Long> productIds, List<Integer> quantities) {
+        PendingOrder pending = new PendingOrder(customerName, customerEmail, productIds, quantities);
+        if (!running || !queue.offer(pending)) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("order queue is full"));
+        }
+        accepted.increment();
+        pending.future.whenComplete((order, ex) -> {
+            latency.record(System.nanoTime() - pending.enqueuedAt);
+            (ex == null ? completed : failed).increment();
+        });
+        return pending.future;
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    public IngestStats stats() {
+        return new IngestStats(queue.size(), queueCapacity, accepted.sum(), rejected.sum(),
+                completed.sum(), failed.sum(), latency.snapshot());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        PendingOrder left;
+        while ((left = queue.poll()) != null) {
+            left.future.completeExceptionally(new RejectedExecutionException("shutting down"));
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingOrder next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.forEach(p -> p.future.completeExceptionally(new IllegalStateException("order was not processed")));
+                batch.clear();
+            }
+        }
+    }
+
+    void process(List<PendingOrder> batch) {
+        Order[] placed = new Order[batch.size()];
+        RuntimeException[] refused = new RuntimeException[batch.size()];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                orderService.lockProductsForBatch(productIdsOf(batch));
+                for (int i = 0; i < batch.size(); i++) {
+                    PendingOrder p = batch.get(i);
+                    try {
+                        placed[i] = orderService.placeOrderInBatch(p.customerName, p.customerEmail, p.productIds, p.quantities);
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        refused[i] = e;
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // 묶음 전체가 롤백됨 -> 결과를 아직 알리지 않았으므로 모두 하나씩 다시
+            batch.forEach(this::placeAlone);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            if (placed[i] != null) {
+                batch.get(i).future.complete(placed[i]);
+            } else {
+                batch.get(i).future.completeExceptionally(refused[i]);
+            }
+        }
+    }
+
+    private static Set<Long> productIdsOf(List<PendingOrder> batch) {
+        Set<Long> ids = new HashSet<>();
+        for (PendingOrder p : batch) {
+            if (p.productIds != null) {
+                p.productIds.stream().filter(Objects::nonNull).forEach(ids::add);
+            }
+        }
+        return ids;
+    }
+
+    private void placeAlone(PendingOrder p) {
+        try {
+            p.future.complete(orderService.placeOrder(p.customerName, p.customerEmail, p.productIds, p.quantities));
+        } catch (RuntimeException e) {
+            p.future.completeExceptionally(e);
+        }
+    }
+
+    static final class PendingOrder {
+        final String customerName;
+        final String customerEmail;
+        final List<Long> productIds;
+        final List<Integer> quantities;
+        final CompletableFuture<Order> future = new CompletableFuture<>();
+        final long enqueuedAt = System.nanoTime();
+
+        PendingOrder(String customerName, String customerEmail, List<Long> productIds, List<Integer> quantities) {
+            this.customerName = customerName;
+            this.customerEmail = customerEmail;
+            this.productIds = productIds;
+            this.quantities = quantities;
+        }
+    }
+
+    public record IngestStats(int queued, int capacity, long accepted, long rejected,
+                              long completed, long failed, LatencyHistogram.Snapshot latency) {
+    }
+}
@@ -1,31 +1,57 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.cache.ProductCache;
+import com.seowon.coding.domain.dto.OrderHistoryPage;
+import com.seowon.coding.domain.dto.OrderItemRow;
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.OrderRow;
+import com.seowon.coding.domain.dto.ProductPriceRow;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.OrderItem;
 import com.seowon.coding.domain.model.ProcessingStatus;
-import com.seowon.coding.domain.model.Product;
 import com.seowon.coding.domain.repository.OrderRepository;
 import com.seowon.coding.domain.repository.ProcessingStatusRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.InventoryLedger;
+import com.seowon.coding.inventory.StockLevelIndex;
+import com.seowon.coding.pricing.PricingEngine;
+import com.seowon.coding.util.TxUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class OrderService {
 
+    public static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    public static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final ProcessingStatusRepository processingStatusRepository;
+    private final ProductCache productCache;
+    private final StockLevelIndex stockLevelIndex;
+    private final InventoryLedger inventoryLedger;
+    private final PricingEngine pricingEngine;
 
     @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
@@ -38,11 +64,71 @@ public class OrderService {
     }
 
 
-    public Order updateOrder(Long id, Order order) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found with id: " + id);
+    /**
+     * 주문 헤더 한 번 + 항목 한 번, 주문 수와 관계없이 쿼리 2개로 끝난다.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderResponse> getAllOrderResponses() {
+        Map<Long, List<OrderItemRow>> items = orderRepository.findAllItemRows().stream()
+                .collect(Collectors.groupingBy(OrderItemRow::orderId));
+        return orderRepository.findAllRows().stream()
+                .map(o -> OrderResponse.of(o, items.getOrDefault(o.id(), List.of())))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> getOrderResponse(Long id) {
+        return orderRepository.findRowById(id)
+                .map(o -> OrderResponse.of(o, orderRepository.findItemRowsByOrderIdIn(List.of(id))));
+    }
+
+    /**
+     * 고객 주문 내역 (최근 주문부터, (orderDate, id) keyset)
+     * 주문 헤더 한 번 + 그 페이지 항목 한 번. 고객의 주문 수와 관계없이 페이지 크기만큼만 읽는다.
+     *
+     * @throws IllegalArgumentException cursor 가 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryPage getCustomerHistory(String customerEmail, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<OrderRow> rows;
+        if (cursor == null) {
+            rows = orderRepository.findHistoryRows(customerEmail, limit);
+        } else {
+            HistoryCursor after = HistoryCursor.decode(cursor);
+            rows = orderRepository.findHistoryRowsAfter(customerEmail, after.orderDate(), after.id(), limit);
         }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<Long, List<OrderItemRow>> items = page.isEmpty() ? Map.of()
+                : orderRepository.findItemRowsByOrderIdIn(page.stream().map(OrderRow::id).toList()).stream()
+                .collect(Collectors.groupingBy(OrderItemRow::orderId));
+        List<OrderResponse> content = page.stream()
+                .map(o -> OrderResponse.of(o, items.getOrDefault(o.id(), List.of())))
+                .toList();
+        String nextCursor = hasNext
+                ? new HistoryCursor(page.get(page.size() - 1).orderDate(), page.get(page.size() - 1).id()).encode()
+                : null;
+        return new OrderHistoryPage(content, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> getOrderVersion(Long id) {
+        return orderRepository.findVersionById(id);
+    }
+
+    /**
+     * version 을 보내지 않으면 기존처럼 덮어쓰고, 보냈으면 낙관적 락으로 검사한다.
+     */
+    public Order updateOrder(Long id, Order order) {
+        Long currentVersion = orderRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
         order.setId(id);
+        if (order.getVersion() == null) {
+            order.setVersion(currentVersion);
+        }
         return orderRepository.save(order);
     }
 
@@ -70,6 +156,20 @@ public class OrderService {
          *  2. 한번에 가져올 때는 원하는 데이터의 수가 맞는지 확인할 필요가 있다.
          *  3. product의 제고를 줄일 때 비관락 혹은 redis의 락 등 동시성 제어에 대한 문제를 고려해야한다.
          */
+        if (productIds == null || quantities == null || productIds.isEmpty() || productIds.size() != quantities.size()) {
+            throw new IllegalArgumentException("productIds and quantities must be non-empty and of the same size");
+        }
+        // 같은 상품이 여러 줄이면 합쳐서 예약한다. (TreeMap: id 오름차순)
+        SortedMap<Long, Integer> requested = new TreeMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            Integer qty = quantities.get(i);
+            if (productIds.get(i) == null || qty == null || qty <= 0) {
+                throw new IllegalArgumentException("invalid order line: " + productIds.get(i) + " x " + qty);
+            }
+            requested.merge(productIds.get(i), qty, Integer::sum);
+        }
+        Map<Long, BigDecimal> prices = reserveStock(requested);
+
         Order order = Order.builder()
                 .customerName(customerName)
                 .customerEmail(customerEmail)
@@ -78,20 +178,12 @@ public class OrderService {
                 .build();
 
         for (int i = 0; i < productIds.size(); i++) {
-            Long p_id = productIds.get(i);
-            Integer p_qu = quantities.get(i);
-            Product p = productRepository.findById(p_id)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + p_id));
-
-            if(!p.isInStock()){
-                throw new IllegalArgumentException("there is no stock in : " + p_id);
-            }
-            p.decreaseStock(p_qu);
-
+            Long id = productIds.get(i);
             OrderItem item = OrderItem.builder()
                     .order(order)
-                    .product(p)
-                    .quantity(p_qu)
+                    .product(productRepository.getReferenceById(id))
+                    .quantity(quantities.get(i))
+                    .price(prices.get(id))
                     .build();
 
             order.addItem(item);
@@ -102,6 +194,73 @@ public class OrderService {
         return result;
     }
 
+    /**
+     * OrderIngestionService 가 배치 트랜잭션을 열자마자 호출한다.
+     * 배치의 모든 주문이 건드릴 상품 행 락을 쿼리 한 번으로 id 오름차순으로 먼저 잡는다.
+     * 주문마다 따로 잡으면 배치 전체로는 전역 id 순서가 깨져 동시에 도는 배치끼리 교착할 수 있다.
+     * 메모리 원장을 쓰는 동안에는 DB 행 락을 잡지 않으므로 아무것도 하지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockProductsForBatch(Collection<Long> productIds) {
+        if (inventoryLedger.isActive() || productIds.isEmpty()) {
+            return;
+        }
+        productRepository.findAllByIdForUpdate(new TreeSet<>(productIds));
+    }
+
+    /**
+     * OrderIngestionService 가 여는 배치 트랜잭션 안에서 주문 하나를 처리한다.
+     * 재고 부족 / 잘못된 요청은 이 주문의 변경을 남기지 않고 실패하므로 배치 트랜잭션을 롤백시키지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY,
+            noRollbackFor = {IllegalArgumentException.class, IllegalStateException.class})
+    public Order placeOrderInBatch(String customerName, String customerEmail, List<Long> productIds, List<Integer> quantities) {
+        return placeOrder(customerName, customerEmail, productIds, quantities);
+    }
+
+    /**
+     * 주문 상품 재고 예약 (호출한 트랜잭션 안에서, 롤백되면 함께 되돌아간다)
+     * 1. 주문 상품의 가격을 id/가격 projection 쿼리 한 번으로 읽는다. 없는 상품이면 여기서 거절한다.
+     *    캐시나 영속성 컨텍스트의 스냅샷이 아니라 이 트랜잭션에서 읽은 가격을 쓴다.
+     * 2. 상품마다 조건부 UPDATE 한 번으로 차감하고, 바뀐 행 수(0 / 1)로 성공을 판단한다. (재고 검사는 여기서만 한다)
+     *    id 오름차순으로 실행하므로 UPDATE 가 잡는 행 락의 순서도 항상 같아 교착이 생기지 않는다.
+     *    중간에 실패하면 앞서 차감한 재고를 직접 되돌리고 예외를 던진다.
+     *    (여러 주문을 한 트랜잭션으로 묶는 OrderIngestionService 에서 이 주문만 실패시키기 위함)
+     * 2'. 메모리 원장이 켜져 있으면 DB 대신 원장에서 차감하고 journal 만 남긴다. (InventoryLedger 참고)
+     * @return id -> 가격
+     */
+    private Map<Long, BigDecimal> reserveStock(SortedMap<Long, Integer> quantities) {
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        for (ProductPriceRow row : productRepository.findPriceRowsByIdIn(quantities.keySet())) {
+            prices.put(row.id(), row.price());
+        }
+        for (Long id : quantities.keySet()) {
+            if (!prices.containsKey(id)) {
+                throw new IllegalArgumentException("Product not found: " + id);
+            }
+        }
+
+        if (inventoryLedger.isActive()) {
+            inventoryLedger.reserve(quantities);
+            quantities.forEach((id, qty) -> TxUtils.afterCommit(() -> stockLevelIndex.adjust(id, -qty)));
+            return prices;
+        }
+
+        List<Map.Entry<Long, Integer>> taken = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> e : quantities.entrySet()) {
+            if (productRepository.decreaseStockIfAvailable(e.getKey(), e.getValue()) == 0) {
+                taken.forEach(t -> productRepository.increaseStockBy(t.getKey(), t.getValue()));
+                throw new IllegalStateException("insufficient stock for product " + e.getKey());
+            }
+            taken.add(e);
+        }
+        quantities.forEach((id, qty) -> {
+            productCache.invalidate(id);
+            TxUtils.afterCommit(() -> stockLevelIndex.adjust(id, -qty));
+        });
+        return prices;
+    }
+
     /**
      * TODO #4 (리펙토링): Service 에 몰린 도메인 로직을 도메인 객체 안으로 이동
      * - Repository 조회는 도메인 객체 밖에서 해결하여 의존 차단 합니다.
@@ -129,37 +288,38 @@ public class OrderService {
                 .totalAmount(BigDecimal.ZERO)
                 .build();
 
-        //
-        BigDecimal subtotal = BigDecimal.ZERO;
+        SortedMap<Long, Integer> requested = new TreeMap<>();
         for (OrderProduct req : orderProducts) {
-            Long pid = req.getProductId();
             int qty = req.getQuantity();
-
-            Product product = productRepository.findById(pid)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + pid));
             if (qty <= 0) {
                 throw new IllegalArgumentException("quantity must be positive: " + qty);
             }
-            if (product.getStockQuantity() < qty) {
-                throw new IllegalStateException("insufficient stock for product " + pid);
+            if (req.getProductId() == null) {
+                throw new IllegalArgumentException("productId required");
             }
+            requested.merge(req.getProductId(), qty, Integer::sum);
+        }
+        Map<Long, BigDecimal> prices = reserveStock(requested);
+
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (OrderProduct req : orderProducts) {
+            Long pid = req.getProductId();
+            int qty = req.getQuantity();
+            BigDecimal price = prices.get(pid);
 
             OrderItem item = OrderItem.builder()
                     .order(order)
-                    .product(product)
+                    .product(productRepository.getReferenceById(pid))
                     .quantity(qty)
-                    .price(product.getPrice())
+                    .price(price)
                     .build();
             order.getItems().add(item);
 
-            product.decreaseStock(qty);
-            subtotal = subtotal.add(product.getPrice().multiply(BigDecimal.valueOf(qty)));
+            subtotal = subtotal.add(price.multiply(BigDecimal.valueOf(qty)));
         }
 
-        BigDecimal shipping = subtotal.compareTo(new BigDecimal("100.00")) >= 0 ? BigDecimal.ZERO : new BigDecimal("5.00");
-        BigDecimal discount = (couponCode != null && couponCode.startsWith("SALE")) ? new BigDecimal("10.00") : BigDecimal.ZERO;
-
-        order.setTotalAmount(subtotal.add(shipping).subtract(discount));
+        // 배송비 / 쿠폰 / 할인 규칙은 PricingEngine 에서 (기본값은 기존 규칙과 같다)
+        order.setTotalAmount(pricingEngine.quote(subtotal, couponCode).total());
         order.setStatus(Order.OrderStatus.PROCESSING);
         return orderRepository.save(order);
     }
@@ -221,4 +381,25 @@ public class OrderService {
         processingStatusRepository.save(ps);
     }
 
-}
\ No newline at end of file
+
+    /**
+     * 고객 주문 내역 cursor: "orderDate|id" 를 base64url 로 인코딩한 값
+     */
+    private record HistoryCursor(LocalDateTime orderDate, Long id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((orderDate + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static HistoryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new HistoryCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+        }
+    }
+}
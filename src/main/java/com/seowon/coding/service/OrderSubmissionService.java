@@ -0,0 +1,97 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderRequestDto;
+import com.seowon.coding.domain.dto.OrderSubmissionStatus;
+import com.seowon.coding.domain.dto.OrderSubmissionStatus.State;
+import com.seowon.coding.domain.dto.ProductDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 주문 접수 (202 Accepted)
+ *
+ * - 요청은 OrderIngestionService 큐에 넣기만 하고 submission id 를 바로 돌려준다.
+ *   실제 placeOrder 는 ingest worker 가 묶어서 실행한다.
+ * - 처리 상태는 메모리에 최근 orders.submissions.max-retained 건만 보관한다. (재시작하면 사라짐)
+ */
+@Service
+public class OrderSubmissionService {
+
+    private final OrderIngestionService orderIngestionService;
+    private final LinkedHashMap<String, OrderSubmissionStatus> submissions;
+
+    public OrderSubmissionService(OrderIngestionService orderIngestionService,
+                                  @Value("${orders.submissions.max-retained:100000}") int maxRetained) {
+        this.orderIngestionService = orderIngestionService;
+        // 삽입 순서 -> 오래된 것부터 제거
+        this.submissions = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OrderSubmissionStatus> eldest) {
+                return size() > maxRetained;
+            }
+        };
+    }
+
+    /**
+     * @return submission id
+     * @throws RejectedExecutionException 접수 큐가 가득 찬 경우
+     */
+    public String submit(OrderRequestDto request) {
+        List<Long> productIds = request.getProducts().stream().map(ProductDto::getProductId).toList();
+        List<Integer> quantities = request.getProducts().stream().map(ProductDto::getQuantity).toList();
+
+        String id = UUID.randomUUID().toString();
+        put(new OrderSubmissionStatus(id, State.PENDING, null, null));
+        CompletableFuture<?> future = orderIngestionService
+                .submit(request.getCustomerName(), request.getCustomerEmail(), productIds, quantities)
+                .whenComplete((order, ex) -> put(ex == null
+                        ? new OrderSubmissionStatus(id, State.COMPLETED, order.getId(), null)
+                        : failed(id, ex)));
+        if (future.isCompletedExceptionally() && rejected(future)) {
+            remove(id);
+            throw new RejectedExecutionException("order queue is full");
+        }
+        return id;
+    }
+
+    public synchronized Optional<OrderSubmissionStatus> getStatus(String id) {
+        return Optional.ofNullable(submissions.get(id));
+    }
+
+    public OrderIngestionService.IngestStats stats() {
+        return orderIngestionService.stats();
+    }
+
+    private static OrderSubmissionStatus failed(String id, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        State state = cause instanceof IllegalArgumentException || cause instanceof IllegalStateException
+                ? State.REJECTED : State.FAILED;
+        return new OrderSubmissionStatus(id, state, null, cause.getMessage());
+    }
+
+    private static boolean rejected(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return false;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof RejectedExecutionException;
+        }
+    }
+
+    private synchronized void put(OrderSubmissionStatus status) {
+        submissions.put(status.id(), status);
+    }
+
+    private synchronized void remove(String id) {
+        submissions.remove(id);
+    }
+}
@@ -0,0 +1,164 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.BulkPriceChangeRequest;
+import com.seowon.coding.domain.dto.BulkPriceChangeResult;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.ProcessingStatusRepository;
+import com.seowon.coding.policy.CompiledPriceAdjustment;
+import com.seowon.coding.policy.PriceAdjustmentPolicy;
+import com.seowon.coding.util.ThreadFactories;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 대량 가격 변경을 백그라운드 작업으로 실행
+ *
+ * - submit 은 ProcessingStatus(PENDING) 만 저장하고 jobId 를 바로 돌려준다.
+ * - 작업은 크기가 고정된 풀(jobs.price.pool-size)과 큐(jobs.price.queue-capacity)에서 실행되며
+ *   큐가 가득 차면 RejectedExecutionException 으로 거절한다.
+ * - 진행률은 chunk 가 끝날 때마다 ProcessingStatus 에 별도 트랜잭션으로 저장한다.
+ * - 취소는 chunk 경계에서 반영된다. (이미 커밋된 chunk 는 되돌리지 않는다)
+ *   마지막 chunk 이후에 들어온 취소처럼 건너뛴 chunk 가 없으면 결과대로 COMPLETED / FAILED 로 끝난다.
+ */
+@Service
+public class PriceChangeJobService {
+
+    private final BulkPriceChangeService bulkPriceChangeService;
+    private final ProcessingStatusRepository processingStatusRepository;
+    private final ExecutorService executor;
+    private final Map<String, RunningJob> jobs = new ConcurrentHashMap<>();
+
+    public PriceChangeJobService(BulkPriceChangeService bulkPriceChangeService,
+                                 ProcessingStatusRepository processingStatusRepository,
+                                 @Value("${jobs.price.pool-size:4}") int poolSize,
+                                 @Value("${jobs.price.queue-capacity:100}") int queueCapacity,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.bulkPriceChangeService = bulkPriceChangeService;
+        this.processingStatusRepository = processingStatusRepository;
+        // virtual thread 모드에서도 pool-size 가 동시 실행 작업 수(= 동시에 잡는 커넥션 수) 상한이다.
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.named("price-job-", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @return jobId
+     * @throws RejectedExecutionException 작업 큐가 가득 찬 경우
+     */
+    public String submit(BulkPriceChangeRequest request) {
+        boolean hasIds = request.getProductIds() != null && !request.getProductIds().isEmpty();
+        if (!hasIds && request.getCategory() == null) {
+            throw new IllegalArgumentException("productIds or category required");
+        }
+        ProductService.requirePositive(
+                PriceAdjustmentPolicy.of(request.getPercentage(), request.isIncludeTax()).compile());
+
+        String jobId = UUID.randomUUID().toString();
+        processingStatusRepository.save(ProcessingStatus.builder()
+                .jobId(jobId)
+                .status(ProcessingStatus.Status.PENDING)
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        RunningJob job = new RunningJob();
+        jobs.put(jobId, job);
+        try {
+            job.future = executor.submit(() -> run(jobId, request, job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            update(jobId, ProcessingStatus::markFailed);
+            throw e;
+        }
+        return jobId;
+    }
+
+    public Optional<ProcessingStatus> getStatus(String jobId) {
+        return processingStatusRepository.findByJobId(jobId);
+    }
+
+    /**
+     * @return 실행 대기/실행 중인 작업이면 true (취소 요청됨)
+     */
+    public boolean cancel(String jobId) {
+        RunningJob job = jobs.get(jobId);
+        if (job == null) {
+            return false;
+        }
+        job.cancelled = true;
+        // 아직 큐에서 대기 중이면 실행되지 않으므로 여기서 바로 CANCELLED 처리
+        Future<?> future = job.future;
+        if (!job.started && future != null && future.cancel(false)) {
+            jobs.remove(jobId);
+            update(jobId, ProcessingStatus::markCancelled);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(String jobId, BulkPriceChangeRequest request, RunningJob job) {
+        job.started = true;
+        try {
+            List<Long> ids = bulkPriceChangeService.resolveIds(request).stream().distinct().toList();
+            int total = ids.size();
+            update(jobId, ps -> ps.markRunning(total));
+
+            CompiledPriceAdjustment policy =
+                    PriceAdjustmentPolicy.of(request.getPercentage(), request.isIncludeTax()).compile();
+            int chunkSize = request.getChunkSize() == null
+                    ? BulkPriceChangeService.DEFAULT_CHUNK_SIZE : request.getChunkSize();
+            int[] processed = {0};
+
+            BulkPriceChangeResult result = bulkPriceChangeService.applyInChunks(ids, policy, chunkSize,
+                    chunk -> {
+                        processed[0] += chunk.requested();
+                        update(jobId, ps -> ps.updateProgress(processed[0], total));
+                    },
+                    () -> job.cancelled);
+
+            if (job.cancelled && result.requested() < total) {
+                update(jobId, ProcessingStatus::markCancelled);
+            } else if (result.failedChunks() > 0) {
+                update(jobId, ProcessingStatus::markFailed);
+            } else {
+                update(jobId, ProcessingStatus::markCompleted);
+            }
+        } catch (RuntimeException e) {
+            update(jobId, ProcessingStatus::markFailed);
+        } finally {
+            jobs.remove(jobId);
+        }
+    }
+
+    private void update(String jobId, Consumer<ProcessingStatus> change) {
+        processingStatusRepository.findByJobId(jobId).ifPresent(ps -> {
+            change.accept(ps);
+            processingStatusRepository.save(ps);
+        });
+    }
+
+    private static final class RunningJob {
+        private volatile boolean started;
+        private volatile boolean cancelled;
+        private volatile Future<?> future;
+    }
+}
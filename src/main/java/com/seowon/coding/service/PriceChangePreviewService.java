@@ -0,0 +1,115 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.BulkPriceChangeRequest;
+import com.seowon.coding.domain.dto.PricePreviewRow;
+import com.seowon.coding.domain.dto.PricePreviewTotals;
+import com.seowon.coding.domain.dto.ProductPriceRow;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.policy.CompiledPriceAdjustment;
+import com.seowon.coding.policy.PriceAdjustmentPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 대량 가격 변경 미리보기 (DB 는 읽기만 한다)
+ *
+ * - 상품을 CHUNK_SIZE 개씩 projection 으로 읽는다. 엔티티가 아니므로 영속성 컨텍스트를 쓰지 않는다.
+ * - chunk 안의 계산은 parallel stream 으로 코어 수만큼 나누고,
+ *   그 동안 다음 chunk 를 읽어서 DB 대기와 계산을 겹친다.
+ * - 결과는 상품 id 순서대로 sink 에 넘기고 합계를 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceChangePreviewService {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+
+    public PricePreviewTotals preview(BulkPriceChangeRequest request, Consumer<PricePreviewRow> sink) {
+        CompiledPriceAdjustment policy =
+                PriceAdjustmentPolicy.of(request.getPercentage(), request.isIncludeTax()).compile();
+        ChunkReader reader = chunkReader(request);
+
+        PricePreviewTotals totals = PricePreviewTotals.EMPTY;
+        CompletableFuture<ChunkPreview> pending = null;
+        List<ProductPriceRow> rows;
+        while (!(rows = reader.next()).isEmpty()) {
+            List<ProductPriceRow> chunk = rows;
+            CompletableFuture<ChunkPreview> computing = CompletableFuture.supplyAsync(() -> compute(chunk, policy));
+            if (pending != null) {
+                totals = totals.plus(emit(pending.join(), sink));
+            }
+            pending = computing;
+        }
+        if (pending != null) {
+            totals = totals.plus(emit(pending.join(), sink));
+        }
+        return totals;
+    }
+
+    private ChunkReader chunkReader(BulkPriceChangeRequest request) {
+        if (request.getCategory() != null) {
+            String category = request.getCategory();
+            Long[] after = {0L};
+            return () -> {
+                List<ProductPriceRow> rows = productRepository.findPriceRowsByCategoryAfter(
+                        category, after[0], Limit.of(CHUNK_SIZE));
+                if (!rows.isEmpty()) {
+                    after[0] = rows.get(rows.size() - 1).id();
+                }
+                return rows;
+            };
+        }
+        if (request.getProductIds() == null || request.getProductIds().isEmpty()) {
+            throw new IllegalArgumentException("productIds or category required");
+        }
+        List<Long> ids = request.getProductIds().stream().distinct().sorted().toList();
+        int[] from = {0};
+        return () -> {
+            if (from[0] >= ids.size()) {
+                return List.of();
+            }
+            List<Long> chunk = ids.subList(from[0], Math.min(ids.size(), from[0] + CHUNK_SIZE));
+            from[0] += chunk.size();
+            return productRepository.findPriceRowsByIdIn(chunk);
+        };
+    }
+
+    private static ChunkPreview compute(List<ProductPriceRow> rows, CompiledPriceAdjustment policy) {
+        List<PricePreviewRow> previews = rows.parallelStream()
+                .map(row -> {
+                    if (row.price() == null) {
+                        return new PricePreviewRow(row.id(), row.name(), null, null, null);
+                    }
+                    BigDecimal newPrice = policy.apply(row.price());
+                    return new PricePreviewRow(row.id(), row.name(), row.price(), newPrice,
+                            newPrice.subtract(row.price()));
+                })
+                .toList();
+        PricePreviewTotals totals = previews.parallelStream()
+                .filter(p -> p.oldPrice() != null)
+                .map(p -> new PricePreviewTotals(1, p.oldPrice(), p.newPrice(), p.delta()))
+                .reduce(PricePreviewTotals.EMPTY, PricePreviewTotals::plus);
+        return new ChunkPreview(previews, totals);
+    }
+
+    private static PricePreviewTotals emit(ChunkPreview chunk, Consumer<PricePreviewRow> sink) {
+        chunk.rows().forEach(sink);
+        return chunk.totals();
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader {
+        List<ProductPriceRow> next();
+    }
+
+    private record ChunkPreview(List<PricePreviewRow> rows, PricePreviewTotals totals) {
+    }
+}
@@ -1,45 +1,129 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.cache.ProductCache;
+import com.seowon.coding.domain.dto.CursorPage;
+import com.seowon.coding.domain.dto.SearchPage;
 import com.seowon.coding.domain.model.Product;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.index.CategoryIndex;
+import com.seowon.coding.inventory.InventoryLedger;
+import com.seowon.coding.policy.CompiledPriceAdjustment;
 import com.seowon.coding.policy.PriceAdjustmentPolicy;
+import com.seowon.coding.search.ProductSearchIndex;
+import com.seowon.coding.util.TxUtils;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ProductService {
     
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int IN_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final ProductCache productCache;
+    private final CategoryIndex categoryIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final InventoryLedger inventoryLedger;
     
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
+
+    /**
+     * id keyset 페이지 조회. size 는 1 ~ MAX_PAGE_SIZE 로 제한한다.
+     * 다음 페이지 존재 여부는 size + 1 건을 읽어서 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Product> getProductPage(Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Product> rows = productRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Product> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 전체 상품을 한 건씩 action 에 넘긴다.
+     * 넘긴 엔티티는 바로 detach 해서 영속성 컨텍스트가 카탈로그 크기만큼 커지지 않도록 한다.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllProducts(Consumer<Product> action) {
+        try (Stream<Product> products = productRepository.streamAll()) {
+            products.forEach(p -> {
+                action.accept(p);
+                entityManager.detach(p);
+            });
+        }
+    }
     
     @Transactional(readOnly = true)
     public Optional<Product> getProductById(Long id) {
-        return productRepository.findById(id);
+        return productCache.get(id, productRepository::findById);
     }
     
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        TxUtils.afterCommit(() -> {
+            categoryIndex.put(saved.getId(), saved.getCategory());
+            productSearchIndex.put(saved.getId(), saved.getName(), saved.getDescription());
+        });
+        return saved;
+    }
+    
+    /**
+     * If-None-Match 비교용. 캐시에 있으면 DB 를 타지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getProductVersion(Long id) {
+        return productCache.getIfPresent(id)
+                .map(Product::getVersion)
+                .or(() -> productRepository.findVersionById(id));
     }
     
+    /**
+     * version 을 보내지 않으면 기존처럼 덮어쓰고, 보냈으면 낙관적 락으로 검사한다.
+     */
     public Product updateProduct(Long id, Product product) {
-        if (!productRepository.existsById(id)) {
-            throw new RuntimeException("Product not found with id: " + id);
-        }
+        Long currentVersion = productRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
         product.setId(id);
-        return productRepository.save(product);
+        if (product.getVersion() == null) {
+            product.setVersion(currentVersion);
+        }
+        Product saved = productRepository.save(product);
+        productCache.invalidate(id);
+        TxUtils.afterCommit(() -> {
+            categoryIndex.put(id, saved.getCategory());
+            productSearchIndex.put(id, saved.getName(), saved.getDescription());
+            inventoryLedger.resync(id);
+        });
+        return saved;
     }
     
     public void deleteProduct(Long id) {
@@ -47,19 +131,74 @@ public class ProductService {
             throw new RuntimeException("Product not found with id: " + id);
         }
         productRepository.deleteById(id);
+        productCache.invalidate(id);
+        TxUtils.afterCommit(() -> {
+            categoryIndex.remove(id);
+            productSearchIndex.remove(id);
+            inventoryLedger.remove(id);
+        });
     }
 
     @Transactional(readOnly = true)
     public List<Product> findProductsByCategory(String category) {
         // TODO #1: 구현 항목
         // Repository를 사용하여 category 로 찾을 제품목록 제공
-        List<Product> products = productRepository.findByCategory(category);
+        // 인덱스가 준비되어 있으면 id 목록 한 번 + 배치 조회 한 번, 아니면 기존 쿼리로 대체
+        List<Product> products = categoryIndex.idsOf(category)
+                .map(this::findAllInIdOrder)
+                .orElseGet(() -> productRepository.findByCategory(category));
         //null check
         if(products.isEmpty())
             throw new RuntimeException("Products not found");
         return products;
     }
 
+    /**
+     * name / description 부분 문자열 + prefix 검색 (랭킹 순 페이지)
+     * 인덱스 적재 전에는 기존 LIKE 쿼리로 대체한다.
+     */
+    @Transactional(readOnly = true)
+    public SearchPage<Product> searchProducts(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNo = Math.max(0, page);
+        if (!productSearchIndex.isReady()) {
+            List<Product> all = productRepository.findByNameContainingIgnoreCase(query == null ? "" : query);
+            return new SearchPage<>(slice(all, pageNo, pageSize), pageNo, pageSize, all.size());
+        }
+
+        // 이 페이지까지의 상위 건만 정렬한다.
+        int limit = (int) Math.min(Integer.MAX_VALUE, (long) (pageNo + 1) * pageSize);
+        ProductSearchIndex.Hits hits = productSearchIndex.search(query, limit);
+        List<Long> pageIds = slice(hits.ids(), pageNo, pageSize);
+        if (pageIds.isEmpty()) {
+            return new SearchPage<>(List.of(), pageNo, pageSize, hits.total());
+        }
+        Map<Long, Product> byId = productRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> content = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new SearchPage<>(content, pageNo, pageSize, hits.total());
+    }
+
+    private static <T> List<T> slice(List<T> list, int page, int size) {
+        long from = (long) page * size;
+        if (from >= list.size()) {
+            return List.of();
+        }
+        return List.copyOf(list.subList((int) from, (int) Math.min(list.size(), from + size)));
+    }
+
+    private List<Product> findAllInIdOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Product> products = new ArrayList<>(productRepository.findAllById(ids));
+        products.sort(Comparator.comparing(Product::getId));
+        return products;
+    }
+
 //    /**
 //     * TODO #6 (리펙토링): 대량 가격 변경 로직을 도메인 객체 안으로 리팩토링하세요.
 //     */
@@ -113,19 +252,59 @@ public class ProductService {
         if (productIds == null || productIds.isEmpty()) {
             throw new IllegalArgumentException("empty productIds");
         }
-        //
-        List<Product> list = productRepository.findAllById(productIds);
-        if(list.size()!=productIds.size()) throw new IllegalArgumentException("some Products not found");
+        CompiledPriceAdjustment policy = requirePositive(PriceAdjustmentPolicy.of(percentage, includeTax).compile());
 
-        PriceAdjustmentPolicy policy = new PriceAdjustmentPolicy(includeTax,percentage,1.1);
+        // 가격 정책은 항상 단일 배수이므로 엔티티를 읽지 않고 UPDATE 문으로 처리
+        List<Long> ids = productIds.stream().distinct().toList();
+        if (ids.size() != productIds.size()
+                || countInChunks(ids, productRepository::countByIdIn) != ids.size()) {
+            throw new IllegalArgumentException("some Products not found");
+        }
+        productRepository.multiplyPrice(ids, policy.multiplier());
+        if (countInChunks(ids, chunk -> productRepository.countByIdInAndPriceAtMost(chunk, BigDecimal.ZERO)) > 0) {
+            throw new IllegalArgumentException("Price must be positive");
+        }
+        productCache.invalidateAll(ids);
+    }
+
+    /**
+     * 카테고리 전체 가격 변경 (All or Nothing)
+     * @return 대상 상품 수
+     */
+    @Transactional
+    public int applyCategoryPriceChange(String category, double percentage, boolean includeTax) {
+        List<Long> ids = productRepository.findIdsByCategory(category);
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("Products not found in category: " + category);
+        }
+        CompiledPriceAdjustment policy = requirePositive(PriceAdjustmentPolicy.of(percentage, includeTax).compile());
+
+        productRepository.multiplyPriceByCategory(category, policy.multiplier());
+        if (productRepository.countByCategoryAndPriceAtMost(category, BigDecimal.ZERO) > 0) {
+            throw new IllegalArgumentException("Price must be positive");
+        }
+        productCache.invalidateAll(ids);
+        return ids.size();
+    }
+
+    /**
+     * 가격 변경은 price * multiplier 를 반올림하는 UPDATE 한 번으로 처리하며, 결과는 Product#updatePrice 와 같다.
+     * 배수가 0 이하(-100% 이하)면 모든 가격이 0 이하가 되므로 UPDATE 전에 요청 오류로 거절한다.
+     * 작은 가격이 반올림으로 0 이 되는 경우는 UPDATE 후 검사에서 걸러져 트랜잭션째 롤백된다.
+     */
+    static CompiledPriceAdjustment requirePositive(CompiledPriceAdjustment policy) {
+        if (policy.multiplier().signum() <= 0) {
+            throw new IllegalArgumentException("percentage would make prices non-positive");
+        }
+        return policy;
+    }
 
-        //개별 업데이트의 문제가 있음
-        // bulk update 고려
-        for(Product p : list){
-            p.updatePrice(policy);
+    private static long countInChunks(List<Long> ids, ToLongFunction<List<Long>> counter) {
+        long count = 0;
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            count += counter.applyAsLong(ids.subList(from, Math.min(ids.size(), from + IN_CHUNK_SIZE)));
         }
-//        내부적인 merge 작업이 이루어지므로 dirty check 만으로 업데이트 쿼리를 보내도록 하자.
-//        productRepository.saveAll(list);
+        return count;
     }
 
 }
@@ -0,0 +1,56 @@
+package com.seowon.coding.stats;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.util.TxUtils;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Order 가 JPA 로 저장/변경/삭제될 때 OrderStatsStore 에 변화량을 커밋 후 반영한다.
+ * markAsXxx / setStatus(일괄 배송 포함) 모두 dirty checking 으로 PostUpdate 를 거친다.
+ * 직전 값은 엔티티의 statsStatus / statsAmount 에 두고, 이벤트마다 새 값으로 바꾼다.
+ * (한 트랜잭션에서 여러 번 flush 되어도 변화량이 겹치지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatsListener {
+
+    private final OrderStatsStore orderStatsStore;
+
+    @PostLoad
+    public void onLoad(Order order) {
+        remember(order);
+    }
+
+    @PostPersist
+    public void onPersist(Order order) {
+        publish(null, null, order.getStatus(), order.getTotalAmount());
+        remember(order);
+    }
+
+    @PostUpdate
+    public void onUpdate(Order order) {
+        publish(order.getStatsStatus(), order.getStatsAmount(), order.getStatus(), order.getTotalAmount());
+        remember(order);
+    }
+
+    @PostRemove
+    public void onRemove(Order order) {
+        publish(order.getStatsStatus(), order.getStatsAmount(), null, null);
+    }
+
+    private void publish(Order.OrderStatus from, BigDecimal fromAmount, Order.OrderStatus to, BigDecimal toAmount) {
+        TxUtils.afterCommit(() -> orderStatsStore.apply(from, fromAmount, to, toAmount));
+    }
+
+    private static void remember(Order order) {
+        order.setStatsStatus(order.getStatus());
+        order.setStatsAmount(order.getTotalAmount());
+    }
+}
@@ -0,0 +1,54 @@
+package com.seowon.coding.stats;
+
+import com.seowon.coding.domain.dto.OrderStats.StatusTotal;
+import com.seowon.coding.domain.model.Order.OrderStatus;
+import com.seowon.coding.domain.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 기동 시 주문 집계를 채우고, 주기적으로 DB 와 비교해 어긋난 집계를 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatsReconciler {
+
+    private final OrderRepository orderRepository;
+    private final OrderStatsStore orderStatsStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        orderStatsStore.load(actualTotals());
+    }
+
+    @Scheduled(fixedDelayString = "${orders.stats.reconcile-interval-ms:60000}",
+            initialDelayString = "${orders.stats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!orderStatsStore.isReady()) {
+            return;
+        }
+        try {
+            orderStatsStore.reconcile(actualTotals());
+        } catch (RuntimeException e) {
+            log.warn("order stats reconciliation failed, will retry", e);
+        }
+    }
+
+    private Map<OrderStatus, StatusTotal> actualTotals() {
+        Map<OrderStatus, StatusTotal> totals = new EnumMap<>(OrderStatus.class);
+        for (OrderRepository.StatusTotalRow row : orderRepository.sumByStatus()) {
+            BigDecimal amount = row.getAmount() == null ? BigDecimal.ZERO : row.getAmount();
+            totals.put(row.getStatus(), new StatusTotal(row.getOrders(), amount));
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,130 @@
+package com.seowon.coding.stats;
+
+import com.seowon.coding.domain.dto.OrderStats;
+import com.seowon.coding.domain.dto.OrderStats.StatusTotal;
+import com.seowon.coding.domain.model.Order.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 주문 상태별 건수 / 금액을 메모리에 유지하는 집계 (조회는 테이블을 읽지 않는다)
+ *
+ * - 주문 생성 / 상태·금액 변경 / 삭제가 커밋되면 OrderStatsListener 가 변화량만 반영한다.
+ * - 기동 시 GROUP BY 한 번으로 채우고(load), 이후 주기적으로 DB 와 비교해 어긋난 만큼 고친다(reconcile).
+ *   커밋 직후 반영 전인 주문 때문에 생기는 일시적인 차이는 고치지 않도록,
+ *   같은 차이가 연속 두 번 보일 때만 보정한다.
+ */
+@Slf4j
+@Component
+public class OrderStatsStore {
+
+    private final Map<OrderStatus, Cell> cells = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, StatusTotal> lastDrift = new EnumMap<>(OrderStatus.class);
+    private volatile boolean ready;
+
+    public OrderStatsStore() {
+        for (OrderStatus status : OrderStatus.values()) {
+            cells.put(status, new Cell());
+        }
+    }
+
+    /**
+     * from 상태 / 금액의 주문이 to 상태 / 금액으로 바뀜 (생성이면 from = null, 삭제면 to = null)
+     */
+    public void apply(OrderStatus from, BigDecimal fromAmount, OrderStatus to, BigDecimal toAmount) {
+        if (from == to && amountOf(fromAmount).compareTo(amountOf(toAmount)) == 0) {
+            return;
+        }
+        if (from != null) {
+            cells.get(from).add(-1, amountOf(fromAmount).negate());
+        }
+        if (to != null) {
+            cells.get(to).add(1, amountOf(toAmount));
+        }
+    }
+
+    public OrderStats snapshot() {
+        Map<OrderStatus, StatusTotal> byStatus = new EnumMap<>(OrderStatus.class);
+        long orders = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (Map.Entry<OrderStatus, Cell> e : cells.entrySet()) {
+            StatusTotal total = e.getValue().total();
+            byStatus.put(e.getKey(), total);
+            orders += total.count();
+            if (e.getKey() != OrderStatus.CANCELLED) {
+                revenue = revenue.add(total.amount());
+            }
+        }
+        return new OrderStats(byStatus, orders, revenue);
+    }
+
+    /**
+     * 기동 시 DB 집계로 덮어쓴다.
+     */
+    public synchronized void load(Map<OrderStatus, StatusTotal> actual) {
+        cells.forEach((status, cell) -> cell.set(actual.getOrDefault(status, new StatusTotal(0, BigDecimal.ZERO))));
+        lastDrift.clear();
+        ready = true;
+    }
+
+    /**
+     * DB 집계와 비교해 직전 실행과 같은 차이가 남아 있는 상태만 보정한다.
+     * @return 보정한 상태 수
+     */
+    public synchronized int reconcile(Map<OrderStatus, StatusTotal> actual) {
+        int corrected = 0;
+        for (Map.Entry<OrderStatus, Cell> e : cells.entrySet()) {
+            OrderStatus status = e.getKey();
+            StatusTotal expected = actual.getOrDefault(status, new StatusTotal(0, BigDecimal.ZERO));
+            StatusTotal current = e.getValue().total();
+            StatusTotal drift = new StatusTotal(expected.count() - current.count(),
+                    expected.amount().subtract(current.amount()));
+            if (drift.count() == 0 && drift.amount().signum() == 0) {
+                lastDrift.remove(status);
+            } else if (sameDrift(drift, lastDrift.get(status))) {
+                log.warn("order stats drift for {}: {} orders, {} amount, corrected", status, drift.count(), drift.amount());
+                e.getValue().add(drift.count(), drift.amount());
+                lastDrift.remove(status);
+                corrected++;
+            } else {
+                lastDrift.put(status, drift);
+            }
+        }
+        return corrected;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private static boolean sameDrift(StatusTotal drift, StatusTotal last) {
+        return last != null && last.count() == drift.count() && last.amount().compareTo(drift.amount()) == 0;
+    }
+
+    private static BigDecimal amountOf(BigDecimal amount) {
+        return amount == null ? BigDecimal.ZERO : amount;
+    }
+
+    private static final class Cell {
+        private long count;
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        synchronized void add(long countDelta, BigDecimal amountDelta) {
+            count += countDelta;
+            amount = amount.add(amountDelta);
+        }
+
+        synchronized void set(StatusTotal total) {
+            count = total.count();
+            amount = total.amount();
+        }
+
+        synchronized StatusTotal total() {
+            return new StatusTotal(count, amount);
+        }
+    }
+}
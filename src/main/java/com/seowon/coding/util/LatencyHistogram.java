@@ -0,0 +1,59 @@
+package com.seowon.coding.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * lock 없는 지연 시간 히스토그램 (마이크로초, 2의 거듭제곱 구간)
+ * 백분위는 해당 구간의 상한으로 근사한다. (최대 2배 오차)
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder totalMicros = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        // 0 -> 0, 1 -> 1, 2~3 -> 2, 4~7 -> 3 ...
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counts[bucket].increment();
+        totalMicros.add(micros);
+    }
+
+    public Snapshot snapshot() {
+        long[] c = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            c[i] = counts[i].sum();
+            total += c[i];
+        }
+        long mean = total == 0 ? 0 : totalMicros.sum() / total;
+        return new Snapshot(total, mean, percentile(c, total, 0.50), percentile(c, total, 0.99));
+    }
+
+    private static long percentile(long[] c, long total, double p) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * p);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += c[i];
+            if (seen >= rank) {
+                return i == 0 ? 0 : (1L << i) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public record Snapshot(long count, long meanMicros, long p50Micros, long p99Micros) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.seowon.coding.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 백그라운드 작업용 ThreadFactory
+ * spring.threads.virtual.enabled=true 이면 virtual thread 를, 아니면 daemon platform thread 를 만든다.
+ * (virtual thread 는 Java 21 이상에서 실행해야 한다. ./gradlew bootRun -PjavaVersion=21)
+ */
+@UtilityClass
+public class ThreadFactories {
+
+    public static ThreadFactory named(String prefix, boolean virtual) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger threadNo = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
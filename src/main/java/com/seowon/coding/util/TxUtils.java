@@ -0,0 +1,48 @@
+package com.seowon.coding.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 경계에 맞춰 후처리를 실행하기 위한 Utils
+ */
+@UtilityClass
+public class TxUtils {
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 action 을 실행
+     * 트랜잭션 밖에서 호출되면 즉시 실행한다.
+     * @param action
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백된 뒤에 action 을 실행
+     * 트랜잭션 밖에서 호출되면 아무것도 하지 않는다.
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
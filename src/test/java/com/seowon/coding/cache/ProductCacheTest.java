@@ -0,0 +1,86 @@
+package com.seowon.coding.cache;
+
+import com.seowon.coding.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCacheTest {
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 쓰이지 않은 상품부터 밀려나야 합니다.")
+    @Test
+    void put_ShouldEvictLeastRecentlyUsed() {
+        ProductCache cache = new ProductCache(2, 300);
+        cache.put(product(1L));
+        cache.put(product(2L));
+        cache.getIfPresent(1L);      // 1 을 최근에 사용
+        cache.put(product(3L));
+
+        assertTrue(cache.getIfPresent(1L).isPresent());
+        assertTrue(cache.getIfPresent(2L).isEmpty());
+        assertTrue(cache.getIfPresent(3L).isPresent());
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(2, cache.stats().size());
+    }
+
+    @DisplayName("TTL 이 지난 상품은 캐시에서 돌려주지 않아야 합니다.")
+    @Test
+    void getIfPresent_ShouldDropExpiredEntry() {
+        ProductCache cache = new ProductCache(10, 0);
+        cache.put(product(1L));
+
+        assertTrue(cache.getIfPresent(1L).isEmpty());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @DisplayName("로딩 중에 그 상품이 invalidate 되면 로딩 결과를 캐시에 올리지 않아야 합니다.")
+    @Test
+    void get_ShouldNotCache_WhenInvalidatedDuringLoad() {
+        ProductCache cache = new ProductCache(10, 300);
+
+        Optional<Product> loaded = cache.get(1L, id -> {
+            cache.invalidate(id);
+            return Optional.of(product(id));
+        });
+
+        assertTrue(loaded.isPresent());
+        assertTrue(cache.getIfPresent(1L).isEmpty());
+    }
+
+    @DisplayName("다른 상품의 invalidate 는 로딩 결과를 캐시에 올리는 것을 막지 않아야 합니다.")
+    @Test
+    void get_ShouldCache_WhenOtherKeyInvalidatedDuringLoad() {
+        ProductCache cache = new ProductCache(10, 300);
+
+        cache.get(1L, id -> {
+            cache.invalidate(2L);
+            return Optional.of(product(id));
+        });
+
+        assertTrue(cache.getIfPresent(1L).isPresent());
+    }
+
+    @DisplayName("캐시는 복사본을 돌려주므로 반환값을 바꿔도 캐시에 영향이 없어야 합니다.")
+    @Test
+    void getIfPresent_ShouldReturnCopy() {
+        ProductCache cache = new ProductCache(10, 300);
+        cache.put(product(1L));
+
+        cache.getIfPresent(1L).orElseThrow().setStockQuantity(0);
+
+        assertEquals(10, cache.getIfPresent(1L).orElseThrow().getStockQuantity());
+    }
+
+    private static Product product(Long id) {
+        return Product.builder()
+                .id(id)
+                .name("product " + id)
+                .price(BigDecimal.TEN)
+                .stockQuantity(10)
+                .build();
+    }
+}
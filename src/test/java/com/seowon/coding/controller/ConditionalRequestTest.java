@@ -0,0 +1,109 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * version 기반 ETag: If-None-Match -> 304, 오래된 version 으로 수정 -> 409
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:etag",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+class ConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @DisplayName("상품 ETag 가 일치하면 304, 수정되어 version 이 바뀌면 새 ETag 로 200 을 돌려줘야 합니다.")
+    @Test
+    void getProduct_ShouldHonourIfNoneMatch() throws Exception {
+        Long id = saveProduct();
+
+        mockMvc.perform(get("/api/products/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+        mockMvc.perform(get("/api/products/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/products/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"renamed\",\"price\":10,\"stockQuantity\":5,\"version\":0}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/products/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @DisplayName("오래된 version 으로 상품을 수정하면 409 를 돌려줘야 합니다.")
+    @Test
+    void updateProduct_ShouldReturnConflict_OnStaleVersion() throws Exception {
+        Long id = saveProduct();
+        String body = "{\"name\":\"renamed\",\"price\":10,\"stockQuantity\":5,\"version\":0}";
+
+        mockMvc.perform(put("/api/products/{id}", id).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/products/{id}", id).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict());
+    }
+
+    @DisplayName("주문 ETag 가 일치하면 304, 없는 주문은 404 를 돌려줘야 합니다.")
+    @Test
+    void getOrder_ShouldHonourIfNoneMatch() throws Exception {
+        Long productId = saveProduct();
+        Long orderId = orderService.placeOrder("c", "c@example.com", List.of(productId), List.of(1)).getId();
+
+        String etag = mockMvc.perform(get("/api/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/orders/{id}", orderId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/orders/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    private Long saveProduct() {
+        return productRepository.save(Product.builder()
+                .name("etag").price(BigDecimal.TEN).stockQuantity(5).build()).getId();
+    }
+}
@@ -0,0 +1,47 @@
+package com.seowon.coding.domain.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRequestDtoTest {
+
+    @DisplayName("canonical 문자열은 이름 / 이메일 / 주문 줄만으로 정해져야 합니다.")
+    @Test
+    void toCanonicalString_ShouldDependOnlyOnNameEmailAndLines() {
+        OrderRequestDto request = request("c", "c@example.com", line(1L, 3), line(2L, 4));
+
+        assertEquals("1:c|13:c@example.com|1x3;2x4;", request.toCanonicalString());
+        assertEquals(request.toCanonicalString(),
+                request("c", "c@example.com", line(1L, 3), line(2L, 4)).toCanonicalString());
+        assertNotEquals(request.toCanonicalString(),
+                request("c", "c@example.com", line(1L, 3), line(2L, 5)).toCanonicalString());
+    }
+
+    @DisplayName("구분자가 들어간 값으로 다른 요청과 같은 문자열이 만들어지면 안 됩니다.")
+    @Test
+    void toCanonicalString_ShouldNotCollide_WhenValuesContainSeparators() {
+        OrderRequestDto a = request("a|b", "c", line(1L, 1));
+        OrderRequestDto b = request("a", "b|c", line(1L, 1));
+
+        assertNotEquals(a.toCanonicalString(), b.toCanonicalString());
+    }
+
+    private static OrderRequestDto request(String name, String email, ProductDto... lines) {
+        OrderRequestDto dto = new OrderRequestDto();
+        dto.setCustomerName(name);
+        dto.setCustomerEmail(email);
+        dto.setProducts(List.of(lines));
+        return dto;
+    }
+
+    private static ProductDto line(Long productId, int quantity) {
+        ProductDto dto = new ProductDto();
+        dto.setProductId(productId);
+        dto.setQuantity(quantity);
+        return dto;
+    }
+}
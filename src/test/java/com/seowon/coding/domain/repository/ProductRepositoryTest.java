@@ -0,0 +1,98 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.inventory.StockLevelIndex;
+import com.seowon.coding.inventory.StockLevelListener;
+import com.seowon.coding.policy.PriceAdjustmentPolicy;
+import com.seowon.coding.stats.OrderStatsListener;
+import com.seowon.coding.stats.OrderStatsStore;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 엔티티 리스너는 Spring bean 으로 만들어지므로 JPA 슬라이스에도 의존 bean 을 올려준다.
+@DataJpaTest
+@Import({StockLevelIndex.class, StockLevelListener.class, OrderStatsStore.class, OrderStatsListener.class})
+class ProductRepositoryTest {
+
+    private static final List<String> PRICES = List.of(
+            "1", "5", "9.99", "10", "15", "45", "99.99", "100", "123.45", "255", "999", "1000", "12345.67", "99999.99");
+    private static final double[] PERCENTAGES = {-50, -33.3, -12.5, -10, -1, 0, 0.5, 1, 5, 7.7, 10, 12.5, 33.3, 50, 100};
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("set 기반 가격 변경은 Product#updatePrice 와 같은 결과를 내야 합니다.")
+    @Test
+    void multiplyPrice_ShouldMatchEntityUpdatePrice() {
+        for (double percentage : PERCENTAGES) {
+            for (boolean includeTax : new boolean[]{false, true}) {
+                PriceAdjustmentPolicy policy = PriceAdjustmentPolicy.of(percentage, includeTax);
+                List<Product> products = saveProducts("diff-ids");
+
+                List<BigDecimal> expected = new ArrayList<>();
+                for (Product p : products) {
+                    Product copy = Product.builder().price(p.getPrice()).build();
+                    copy.updatePrice(policy);
+                    expected.add(copy.getPrice());
+                }
+
+                int updated = productRepository.multiplyPrice(products.stream().map(Product::getId).toList(),
+                        policy.multiplier());
+
+                assertEquals(products.size(), updated);
+                assertPrices(products, expected, policy);
+            }
+        }
+    }
+
+    @DisplayName("카테고리 단위 set 기반 가격 변경도 Product#updatePrice 와 같은 결과를 내야 합니다.")
+    @Test
+    void multiplyPriceByCategory_ShouldMatchEntityUpdatePrice() {
+        PriceAdjustmentPolicy policy = PriceAdjustmentPolicy.of(7.7, true);
+        List<Product> products = saveProducts("diff-category");
+        saveProducts("untouched");
+
+        List<BigDecimal> expected = products.stream().map(p -> policy.apply(p.getPrice())).toList();
+        int updated = productRepository.multiplyPriceByCategory("diff-category", policy.multiplier());
+
+        assertEquals(products.size(), updated);
+        assertPrices(products, expected, policy);
+    }
+
+    private List<Product> saveProducts(String category) {
+        List<Product> products = new ArrayList<>();
+        for (String price : PRICES) {
+            products.add(Product.builder()
+                    .name("product " + price)
+                    .price(new BigDecimal(price))
+                    .stockQuantity(1)
+                    .category(category)
+                    .build());
+        }
+        List<Product> saved = productRepository.saveAll(products);
+        entityManager.flush();
+        return saved;
+    }
+
+    private void assertPrices(List<Product> products, List<BigDecimal> expected, PriceAdjustmentPolicy policy) {
+        entityManager.clear();
+        for (int i = 0; i < products.size(); i++) {
+            BigDecimal actual = productRepository.findById(products.get(i).getId()).orElseThrow().getPrice();
+            assertEquals(0, expected.get(i).compareTo(actual),
+                    policy + " price " + products.get(i).getPrice() + ": expected " + expected.get(i) + " but was " + actual);
+        }
+    }
+}
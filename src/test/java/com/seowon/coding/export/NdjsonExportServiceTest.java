@@ -0,0 +1,101 @@
+package com.seowon.coding.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:export",
+        "spring.jpa.show-sql=false"
+})
+class NdjsonExportServiceTest {
+
+    @Autowired
+    private NdjsonExportService exportService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @DisplayName("상품은 chunk 크기를 넘어도 id 순서대로 한 줄에 하나씩 모두 내보내야 합니다.")
+    @Test
+    void exportProducts_ShouldWriteOneLinePerProductInIdOrder() throws IOException {
+        int count = NdjsonExportService.CHUNK_SIZE + 3;
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder().name("export " + i).price(BigDecimal.ONE).stockQuantity(1).build());
+        }
+        productRepository.saveAll(products);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exportService.exportProducts(out);
+
+        List<JsonNode> lines = lines(out);
+        assertEquals(count, written);
+        assertEquals(count, lines.size());
+        for (int i = 1; i < lines.size(); i++) {
+            assertTrue(lines.get(i - 1).get("id").asLong() < lines.get(i).get("id").asLong());
+        }
+        assertEquals("export 0", lines.get(0).get("name").asText());
+    }
+
+    @DisplayName("주문은 항목을 포함해 한 줄에 하나씩 내보내야 합니다.")
+    @Test
+    void exportOrders_ShouldIncludeItems() throws IOException {
+        Long a = productRepository.save(Product.builder().name("a").price(BigDecimal.TEN).stockQuantity(10).build()).getId();
+        Long b = productRepository.save(Product.builder().name("b").price(BigDecimal.ONE).stockQuantity(10).build()).getId();
+        Long first = orderService.placeOrder("c1", "c1@example.com", List.of(a, b), List.of(1, 2)).getId();
+        Long second = orderService.placeOrder("c2", "c2@example.com", List.of(b), List.of(3)).getId();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exportService.exportOrders(out);
+
+        List<JsonNode> lines = lines(out);
+        assertEquals(2, written);
+        assertEquals(first, lines.get(0).get("id").asLong());
+        assertEquals(2, lines.get(0).get("items").size());
+        assertEquals(second, lines.get(1).get("id").asLong());
+        assertEquals(1, lines.get(1).get("items").size());
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws IOException {
+        String text = out.toString(StandardCharsets.UTF_8);
+        assertTrue(text.endsWith("\n"));
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,148 @@
+package com.seowon.coding.idempotency;
+
+import com.seowon.coding.idempotency.IdempotencyStore.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IdempotencyStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        store = new IdempotencyStore(jdbcTemplate, 24, 100, 1, false);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        store.shutdown();
+    }
+
+    @DisplayName("같은 key 로 동시에 들어온 요청은 한 번만 실행되고 결과를 함께 받아야 합니다.")
+    @Test
+    void execute_ShouldCollapseConcurrentRequests() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<Result> running = new CompletableFuture<>();
+
+        CompletableFuture<Result> first = store.execute("k1", "fp", () -> {
+            calls.incrementAndGet();
+            return running;
+        });
+        CompletableFuture<Result> second = store.execute("k1", "fp", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(Result.of(HttpStatus.CREATED, 2L));
+        });
+        running.complete(Result.of(HttpStatus.CREATED, 1L));
+
+        assertEquals(1, calls.get());
+        assertEquals(1L, first.join().resourceId());
+        assertFalse(first.join().replayed());
+        assertEquals(1L, second.join().resourceId());
+        assertTrue(second.join().replayed());
+    }
+
+    @DisplayName("완료된 key 로 다시 요청하면 실행하지 않고 저장된 결과를 돌려줘야 합니다.")
+    @Test
+    void execute_ShouldReplayStoredResult() {
+        store.execute("k1", "fp", () -> CompletableFuture.completedFuture(Result.of(HttpStatus.CREATED, 1L))).join();
+
+        Result replay = store.execute("k1", "fp", () -> {
+            throw new AssertionError("must not run again");
+        }).join();
+
+        assertEquals(201, replay.status());
+        assertEquals(1L, replay.resourceId());
+        assertTrue(replay.replayed());
+    }
+
+    @DisplayName("같은 key 로 본문이 다르면 422 를 돌려줘야 합니다.")
+    @Test
+    void execute_ShouldRejectDifferentRequestWithSameKey() {
+        store.execute("k1", "fp", () -> CompletableFuture.completedFuture(Result.of(HttpStatus.CREATED, 1L))).join();
+
+        Result mismatch = store.execute("k1", "other", () -> {
+            throw new AssertionError("must not run");
+        }).join();
+
+        assertEquals(422, mismatch.status());
+        assertFalse(mismatch.replayed(), "재생한 결과가 아니므로 Idempotent-Replayed 를 붙이지 않아야 합니다.");
+    }
+
+    @DisplayName("다른 곳에서 처리 중인 key 는 409 이고 재생한 결과로 표시하지 않아야 합니다.")
+    @Test
+    void execute_ShouldReturnInProgress_WhenKeyIsClaimedElsewhere() {
+        when(jdbcTemplate.update(startsWith("insert into idempotency_record"), any(), any(), any()))
+                .thenThrow(new DuplicateKeyException("claimed"));
+        when(jdbcTemplate.queryForObject(startsWith("select fingerprint"), any(RowMapper.class), eq("k1")))
+                .thenAnswer(inv -> inv.<RowMapper<?>>getArgument(1).mapRow(pendingRow(), 0));
+
+        CompletableFuture<Result> first = store.execute("k1", "fp", () -> {
+            throw new AssertionError("must not run");
+        });
+        CompletableFuture<Result> again = store.execute("k1", "fp", () -> {
+            throw new AssertionError("must not run");
+        });
+
+        assertEquals(409, first.join().status());
+        assertFalse(first.join().replayed());
+        assertFalse(again.join().replayed());
+    }
+
+    @DisplayName("429 같은 일시적 실패는 저장하지 않고 선점을 풀어 재시도할 수 있어야 합니다.")
+    @Test
+    void execute_ShouldReleaseKey_WhenResultIsRetryable() {
+        store.execute("k1", "fp", () -> CompletableFuture.completedFuture(Result.of(HttpStatus.TOO_MANY_REQUESTS, null))).join();
+
+        Result retried = store.execute("k1", "fp",
+                () -> CompletableFuture.completedFuture(Result.of(HttpStatus.CREATED, 1L))).join();
+
+        assertEquals(201, retried.status());
+        assertFalse(retried.replayed());
+        verify(jdbcTemplate).update(contains("delete from idempotency_record where idempotency_key = ? and status"), eq("k1"));
+    }
+
+    @DisplayName("결과 저장은 future 를 완료시킨 스레드가 아니라 전용 스레드에서 해야 합니다.")
+    @Test
+    void execute_ShouldStoreResultOffCompletingThread() {
+        AtomicReference<Thread> storedOn = new AtomicReference<>();
+        when(jdbcTemplate.update(startsWith("update idempotency_record"), any(), any(), any(), any()))
+                .thenAnswer(inv -> {
+                    storedOn.set(Thread.currentThread());
+                    return 1;
+                });
+        CompletableFuture<Result> running = new CompletableFuture<>();
+
+        CompletableFuture<Result> result = store.execute("k1", "fp", () -> running);
+        running.complete(Result.of(HttpStatus.CREATED, 1L));
+
+        assertEquals(201, result.join().status());
+        assertNotNull(storedOn.get());
+        assertNotEquals(Thread.currentThread(), storedOn.get());
+        assertTrue(storedOn.get().getName().startsWith("idempotency-"));
+    }
+
+    private static ResultSet pendingRow() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn("fp");
+        when(rs.getInt(2)).thenReturn(0);
+        return rs;
+    }
+}
@@ -0,0 +1,83 @@
+package com.seowon.coding.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvProductRowReaderTest {
+
+    private static CsvProductRowReader reader(String csv) throws IOException {
+        return new CsvProductRowReader(new BufferedReader(new StringReader(csv)));
+    }
+
+    @DisplayName("컬럼 순서와 관계없이 헤더 이름으로 값을 읽어야 합니다.")
+    @Test
+    void next_ShouldReadColumnsByHeaderName() throws IOException {
+        CsvProductRowReader reader = reader("""
+                category,price,name,stock_quantity,id
+                Electronics,10.50,Mouse,3,
+                Books,7,Novel,,42
+                """);
+
+        ProductRowReader.Row first = reader.next();
+        assertEquals(2, first.line());
+        assertNull(first.product().getId());
+        assertEquals("Mouse", first.product().getName());
+        assertEquals(0, new BigDecimal("10.50").compareTo(first.product().getPrice()));
+        assertEquals(3, first.product().getStockQuantity());
+        assertEquals("Electronics", first.product().getCategory());
+
+        ProductRowReader.Row second = reader.next();
+        assertEquals(42L, second.product().getId());
+        assertEquals(0, second.product().getStockQuantity());
+
+        assertNull(reader.next());
+    }
+
+    @DisplayName("따옴표로 감싼 필드는 쉼표와 줄바꿈을 포함할 수 있어야 합니다.")
+    @Test
+    void next_ShouldHandleQuotedFieldsSpanningLines() throws IOException {
+        CsvProductRowReader reader = reader("""
+                name,description,price
+                "Desk, oak","line one
+                line ""two""",99
+                Lamp,,5
+                """);
+
+        ProductRowReader.Row first = reader.next();
+        assertEquals(2, first.line());
+        assertEquals("Desk, oak", first.product().getName());
+        assertEquals("line one\nline \"two\"", first.product().getDescription());
+
+        ProductRowReader.Row second = reader.next();
+        assertEquals(4, second.line());
+        assertNull(second.product().getDescription());
+    }
+
+    @DisplayName("잘못된 행은 오류로 돌려주고 다음 행을 계속 읽어야 합니다.")
+    @Test
+    void next_ShouldReportBadRowsWithoutStopping() throws IOException {
+        CsvProductRowReader reader = reader("""
+                name,price
+                Pen,abc
+                Pencil
+                Eraser,1
+                """);
+
+        assertTrue(reader.next().error().startsWith("Invalid number"));
+        assertEquals("Expected 2 columns but got 1", reader.next().error());
+        assertEquals("Eraser", reader.next().product().getName());
+    }
+
+    @DisplayName("알 수 없는 헤더는 거절해야 합니다.")
+    @Test
+    void reader_ShouldRejectUnknownHeader() {
+        assertThrows(IllegalArgumentException.class, () -> reader("name,price,colour\n"));
+    }
+}
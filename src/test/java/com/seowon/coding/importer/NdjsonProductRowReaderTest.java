@@ -0,0 +1,40 @@
+package com.seowon.coding.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonProductRowReaderTest {
+
+    @DisplayName("null 이나 깨진 JSON 행은 그 행의 오류로 돌려주고 다음 행을 계속 읽어야 합니다.")
+    @Test
+    void next_ShouldReportNullAndInvalidLinesAsRowErrors() throws IOException {
+        NdjsonProductRowReader reader = new NdjsonProductRowReader(new BufferedReader(new StringReader("""
+                {"name":"Pen","price":1}
+                null
+
+                {"name":
+                {"name":"Eraser","price":2}
+                """)), new ObjectMapper().reader());
+
+        assertEquals("Pen", reader.next().product().getName());
+
+        ProductRowReader.Row nullRow = reader.next();
+        assertEquals(2, nullRow.line());
+        assertNull(nullRow.product());
+        assertEquals("Expected a JSON object", nullRow.error());
+
+        ProductRowReader.Row broken = reader.next();
+        assertEquals(4, broken.line());
+        assertTrue(broken.error().startsWith("Invalid JSON"));
+
+        assertEquals("Eraser", reader.next().product().getName());
+        assertNull(reader.next());
+    }
+}
@@ -0,0 +1,116 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ledger",
+        "spring.jpa.show-sql=false",
+        "inventory.ledger.enabled=true",
+        // 스케줄 flush 가 끼어들지 않도록 충분히 길게
+        "inventory.ledger.flush-interval-ms=3600000"
+})
+class InventoryLedgerTest {
+
+    @Autowired
+    private InventoryLedger inventoryLedger;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        inventoryLedger.flushOnce();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @DisplayName("원장으로 차감한 재고는 journal 에 남았다가 flush 때 product 에 합산 반영되어야 합니다.")
+    @Test
+    void placeOrder_ShouldReserveInLedger_AndFlushNetDelta() {
+        Long id = productRepository.save(Product.builder()
+                .name("ledger").price(BigDecimal.TEN).stockQuantity(10).build()).getId();
+        assertTrue(inventoryLedger.isActive());
+
+        orderService.placeOrder("a", "a@example.com", List.of(id), List.of(3));
+        orderService.placeOrder("b", "b@example.com", List.of(id), List.of(4));
+
+        assertEquals(3, inventoryLedger.available(id));
+        assertEquals(10, stockInDb(id), "flush 전에는 product 를 건드리지 않아야 합니다.");
+        assertEquals(2, journalSize());
+
+        assertThrows(IllegalStateException.class,
+                () -> orderService.placeOrder("c", "c@example.com", List.of(id), List.of(4)));
+        assertEquals(3, inventoryLedger.available(id), "실패한 주문은 원장을 바꾸지 않아야 합니다.");
+
+        assertEquals(2, inventoryLedger.flushOnce());
+        assertEquals(3, stockInDb(id));
+        assertEquals(0, journalSize());
+    }
+
+    @DisplayName("기동 시 남아 있던 journal 은 reconcile 로 product 에 반영되어야 합니다.")
+    @Test
+    void reconcile_ShouldApplyLeftoverJournal() {
+        Long id = productRepository.save(Product.builder()
+                .name("crash").price(BigDecimal.TEN).stockQuantity(10).build()).getId();
+        jdbcTemplate.update("insert into inventory_journal_entry (product_id, quantity, created_at) "
+                + "values (?, 2, current_timestamp)", id);
+        jdbcTemplate.update("insert into inventory_journal_entry (product_id, quantity, created_at) "
+                + "values (?, 5, current_timestamp)", id);
+
+        inventoryLedger.reconcile();
+
+        assertEquals(3, stockInDb(id));
+        assertEquals(0, journalSize());
+    }
+
+    @DisplayName("재고를 직접 바꾼 뒤 resync 전에 flush 가 끼어들어도 가용 재고가 부풀지 않아야 합니다.")
+    @Test
+    void resync_ShouldNotOverstate_WhenFlushCommitsInBetween() {
+        Long id = productRepository.save(Product.builder()
+                .name("restock").price(BigDecimal.TEN).stockQuantity(10).build()).getId();
+        orderService.placeOrder("a", "a@example.com", List.of(id), List.of(3));
+        assertEquals(7, inventoryLedger.available(id));
+
+        // PUT 으로 20 으로 재입고 (커밋됨) -> resync 전에 flush 가 먼저 3 을 반영
+        jdbcTemplate.update("update product set stock_quantity = 20, version = version + 1 where id = ?", id);
+        assertEquals(1, inventoryLedger.flushOnce());
+        inventoryLedger.resync(id);
+
+        assertEquals(17, stockInDb(id));
+        assertEquals(17, inventoryLedger.available(id));
+
+        inventoryLedger.resync(id);
+        assertEquals(17, inventoryLedger.available(id), "같은 값으로 다시 맞춰도 변하지 않아야 합니다.");
+    }
+
+    private int stockInDb(Long id) {
+        return jdbcTemplate.queryForObject("select stock_quantity from product where id = ?", Integer.class, id);
+    }
+
+    private int journalSize() {
+        return jdbcTemplate.queryForObject("select count(*) from inventory_journal_entry", Integer.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.seowon.coding.inventory;
+
+import com.seowon.coding.inventory.StockLevelIndex.StockLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockLevelIndexTest {
+
+    private StockLevelIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StockLevelIndex(new int[]{10, 0});
+        index.load(1L, 50, 0L);
+        index.load(2L, 3, 0L);
+        index.load(3L, 0, 0L);
+        index.load(4L, 3, 0L);
+        index.markReady();
+    }
+
+    @DisplayName("재고 N 미만 상품을 재고, id 오름차순으로 keyset 페이지로 돌려줘야 합니다.")
+    @Test
+    void below_ShouldPageByQuantityThenId() {
+        assertEquals(List.of(new StockLevel(3L, 0), new StockLevel(2L, 3)), index.below(10, null, null, 2));
+        assertEquals(List.of(new StockLevel(4L, 3)), index.below(10, 3, 2L, 2));
+        assertTrue(index.below(3, null, null, 10).stream().allMatch(l -> l.quantity() < 3));
+    }
+
+    @DisplayName("임계값을 넘나들 때만 이벤트가 생겨야 합니다.")
+    @Test
+    void update_ShouldPublishThresholdCrossings() {
+        index.update(1L, 40, 1L);   // 변화 없음
+        index.update(1L, 0, 2L);    // 10, 0 둘 다 DROPPED
+        index.update(3L, 5, 1L);    // 0 RECOVERED
+
+        List<StockLevelEvent> events = index.eventsAfter(0, 10);
+        assertEquals(3, events.size());
+        assertEquals(StockLevelEvent.Direction.DROPPED, events.get(0).direction());
+        assertEquals(0, events.get(0).threshold());
+        assertEquals(10, events.get(1).threshold());
+        assertEquals(StockLevelEvent.Direction.RECOVERED, events.get(2).direction());
+        assertEquals(List.of(events.get(2)), index.eventsAfter(events.get(1).sequence(), 10));
+    }
+
+    @DisplayName("afterCommit 이 늦게 도착한 이전 version 은 무시되어야 합니다.")
+    @Test
+    void update_ShouldIgnoreOlderVersion() {
+        index.update(1L, 5, 2L);
+        index.update(1L, 30, 1L);
+
+        assertEquals(5, index.quantityOf(1L).orElseThrow());
+    }
+
+    @DisplayName("adjust 는 현재 값에 delta 를 더해야 합니다.")
+    @Test
+    void adjust_ShouldApplyDelta() {
+        index.adjust(2L, -3);
+
+        assertEquals(0, index.quantityOf(2L).orElseThrow());
+        assertEquals(List.of(new StockLevel(2L, 0), new StockLevel(3L, 0)), index.below(1, null, null, 10));
+    }
+
+    @DisplayName("adjust 는 version 을 올리지 않아 이후의 실제 version 갱신이 버려지지 않아야 합니다.")
+    @Test
+    void adjust_ShouldKeepVersion() {
+        index.adjust(1L, -5);
+        index.adjust(1L, -5);
+        index.update(1L, 100, 1L);
+
+        assertEquals(100, index.quantityOf(1L).orElseThrow());
+    }
+
+    @DisplayName("adjust 가 절대값 갱신 뒤에 도착해 어긋난 재고는 같은 차이가 두 번 보일 때 보정되어야 합니다.")
+    @Test
+    void reconcile_ShouldCorrectOnlyPersistentDrift() {
+        index.update(1L, 45, 1L);   // 차감(-5)이 이미 반영된 절대값
+        index.adjust(1L, -5);       // 늦게 도착한 같은 차감 -> 40
+
+        assertFalse(index.reconcile(1L, 45));
+        assertEquals(40, index.quantityOf(1L).orElseThrow());
+        assertTrue(index.reconcile(1L, 45));
+        assertEquals(45, index.quantityOf(1L).orElseThrow());
+    }
+
+    @DisplayName("다음 실행에서 사라진 일시적인 차이는 보정하지 않아야 합니다.")
+    @Test
+    void reconcile_ShouldIgnoreTransientDrift() {
+        assertFalse(index.reconcile(2L, 1));    // afterCommit 반영 전
+        index.adjust(2L, -2);
+        assertFalse(index.reconcile(2L, 1));
+        assertFalse(index.reconcile(2L, 0));    // 차이가 바뀌면 다시 지켜본다
+
+        assertEquals(1, index.quantityOf(2L).orElseThrow());
+        assertTrue(index.eventsAfter(0, 10).isEmpty());
+    }
+}
@@ -0,0 +1,74 @@
+package com.seowon.coding.policy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledPriceAdjustmentTest {
+
+    private static final double[] PERCENTAGES = {-99.5, -50, -33.3, -12.5, -10, -1, 0, 0.1, 0.5, 1, 5, 7.7, 10, 12.5, 15, 33.3, 50, 100, 250};
+    private static final double[] TAX_RATES = {PriceAdjustmentPolicy.DEFAULT_TAX_RATE, 10, 0};
+
+    @DisplayName("compile 한 정책은 모든 경우에 PriceAdjustmentPolicy#apply 와 같은 결과를 내야 합니다.")
+    @Test
+    void apply_ShouldMatchPolicyApply() {
+        Random random = new Random(42);
+        for (double percentage : PERCENTAGES) {
+            for (boolean includeTax : new boolean[]{false, true}) {
+                for (double taxRate : TAX_RATES) {
+                    PriceAdjustmentPolicy policy = new PriceAdjustmentPolicy(includeTax, percentage, taxRate);
+                    CompiledPriceAdjustment compiled = policy.compile();
+                    for (int i = 0; i < 2_000; i++) {
+                        BigDecimal price = i % 5 == 0
+                                ? BigDecimal.valueOf(i + 1)
+                                : BigDecimal.valueOf(random.nextInt(10_000_000) + 1, random.nextInt(3));
+                        assertEquals(policy.apply(price), compiled.apply(price), policy + " price " + price);
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("반올림 경계(x.5)에 정확히 걸리는 가격도 같은 결과를 내야 합니다.")
+    @Test
+    void apply_ShouldMatchPolicyApply_OnHalfBoundary() {
+        // 1.5 배는 이진수로 정확히 표현되므로 price * 1.5 가 정확히 x.5 가 된다.
+        PriceAdjustmentPolicy policy = new PriceAdjustmentPolicy(false, 50, 0);
+        CompiledPriceAdjustment compiled = policy.compile();
+        for (int price = 1; price <= 101; price += 2) {
+            BigDecimal p = BigDecimal.valueOf(price);
+            assertEquals(policy.apply(p), compiled.apply(p));
+        }
+        // 50 * 1.1 * 1.1 은 십진수로는 60.5 이지만 이진 전개 값은 그보다 아주 조금 크다.
+        PriceAdjustmentPolicy tax = new PriceAdjustmentPolicy(true, 10, 10);
+        BigDecimal price = new BigDecimal("50");
+        assertEquals(new BigDecimal("61"), tax.compile().apply(price));
+        assertEquals(tax.apply(price), tax.compile().apply(price));
+    }
+
+    @DisplayName("applyAll 은 배열의 각 가격에 apply 한 결과와 같아야 합니다.")
+    @Test
+    void applyAll_ShouldMatchPerPriceApply() {
+        PriceAdjustmentPolicy policy = PriceAdjustmentPolicy.of(12.5, true);
+        BigDecimal[] prices = {new BigDecimal("1"), new BigDecimal("99.99"), new BigDecimal("12345.67")};
+
+        BigDecimal[] result = policy.compile().applyAll(prices);
+
+        assertEquals(prices.length, result.length);
+        for (int i = 0; i < prices.length; i++) {
+            assertEquals(policy.apply(prices[i]), result[i]);
+        }
+    }
+
+    @DisplayName("multiplier 는 PriceAdjustmentPolicy#multiplier 와 같아야 합니다.")
+    @Test
+    void multiplier_ShouldBeExact() {
+        PriceAdjustmentPolicy policy = PriceAdjustmentPolicy.of(7.7, true);
+
+        assertEquals(policy.multiplier(), policy.compile().multiplier());
+    }
+}
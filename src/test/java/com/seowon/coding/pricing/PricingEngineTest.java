@@ -0,0 +1,49 @@
+package com.seowon.coding.pricing;
+
+import com.seowon.coding.pricing.PricingRuleDefinition.Coupon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingEngineTest {
+
+    @DisplayName("기본 규칙은 기존 checkoutOrder 계산과 같아야 합니다.")
+    @Test
+    void quote_ShouldMatchLegacyRules_ByDefault() {
+        PricingEngine engine = new PricingEngine(List.of());
+
+        assertEquals(0, engine.quote(new BigDecimal("100.00"), "SALE2024").total().compareTo(new BigDecimal("90.00")));
+        assertEquals(0, engine.quote(new BigDecimal("99.99"), null).total().compareTo(new BigDecimal("104.99")));
+        assertEquals(0, engine.quote(new BigDecimal("50"), "XSALE").discount().compareTo(BigDecimal.ZERO));
+    }
+
+    @DisplayName("정확히 일치하는 쿠폰이 우선이고, 그 다음은 가장 긴 prefix 가 적용되어야 합니다.")
+    @Test
+    void quote_ShouldPreferExactThenLongestPrefix() {
+        PricingEngine engine = new PricingEngine(List.of());
+        engine.reload(new PricingRuleDefinition(new BigDecimal("100"), new BigDecimal("5"), List.of(
+                new Coupon("SALE", true, new BigDecimal("10")),
+                new Coupon("SALEVIP", true, new BigDecimal("30")),
+                new Coupon("SALEVIP-1", false, new BigDecimal("50")))));
+
+        assertEquals(new BigDecimal("10"), engine.quote(BigDecimal.TEN, "SALE-X").discount());
+        assertEquals(new BigDecimal("30"), engine.quote(BigDecimal.TEN, "SALEVIP-2").discount());
+        assertEquals(new BigDecimal("50"), engine.quote(BigDecimal.TEN, "SALEVIP-1").discount());
+        assertEquals(BigDecimal.ZERO, engine.quote(BigDecimal.TEN, "SAL").discount());
+    }
+
+    @DisplayName("DiscountRule 플러그인 할인이 쿠폰 할인에 더해져야 하고, 잘못된 규칙은 기존 규칙을 바꾸지 않아야 합니다.")
+    @Test
+    void reload_ShouldKeepPluginsAndRejectInvalidRules() {
+        PricingEngine engine = new PricingEngine(List.of((subtotal, coupon) -> BigDecimal.ONE));
+
+        assertEquals(new BigDecimal("11.00"), engine.quote(new BigDecimal("200"), "SALE").discount());
+        assertThrows(IllegalArgumentException.class, () -> engine.reload(new PricingRuleDefinition(
+                BigDecimal.ONE, BigDecimal.ONE, List.of(new Coupon("", true, BigDecimal.ONE)))));
+        assertEquals(PricingRuleDefinition.DEFAULT, engine.currentDefinition());
+    }
+}
@@ -0,0 +1,71 @@
+package com.seowon.coding.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.put(1L, "Galaxy Phone", "Android smartphone");
+        index.put(2L, "iPhone 15", "Apple smartphone");
+        index.put(3L, "Phone Case", "Fits most phones");
+        index.put(4L, "Laptop Stand", "Aluminium");
+    }
+
+    @DisplayName("3글자 이상은 부분 문자열로 검색되고 name 이 검색어로 시작하는 상품이 먼저 나와야 합니다.")
+    @Test
+    void search_ShouldMatchSubstring_AndRankNamePrefixFirst() {
+        List<Long> result = index.search("phone");
+
+        assertEquals(List.of(3L, 2L, 1L), result);
+    }
+
+    @DisplayName("1~2글자는 단어 prefix 로 검색되어야 합니다.")
+    @Test
+    void search_ShouldMatchWordPrefix_ForShortQuery() {
+        assertEquals(List.of(4L), index.search("la"));
+        assertTrue(index.search("ho").isEmpty(), "단어 중간은 prefix 로 매칭되지 않아야 합니다.");
+    }
+
+    @DisplayName("description 에만 있는 단어도 검색되어야 하며 모든 토큰이 맞아야 합니다.")
+    @Test
+    void search_ShouldRequireAllTokens() {
+        assertEquals(List.of(2L), index.search("apple smart"));
+        assertTrue(index.search("apple galaxy").isEmpty());
+    }
+
+    @DisplayName("수정/삭제가 색인에 반영되어야 합니다.")
+    @Test
+    void putAndRemove_ShouldKeepIndexCurrent() {
+        index.put(4L, "Monitor Stand", "Steel");
+        index.remove(1L);
+
+        assertTrue(index.search("laptop").isEmpty());
+        assertEquals(List.of(4L), index.search("monitor"));
+        assertEquals(List.of(3L, 2L), index.search("phone"));
+    }
+
+    @DisplayName("limit 을 주면 전체 랭킹의 앞부분만 같은 순서로 돌려주고 전체 건수는 그대로여야 합니다.")
+    @Test
+    void search_ShouldReturnTopK_WithTotal() {
+        for (long id = 10; id < 60; id++) {
+            index.put(id, "Phone accessory " + id, null);
+        }
+        List<Long> all = index.search("phone");
+
+        ProductSearchIndex.Hits top = index.search("phone", 5);
+
+        assertEquals(all.size(), top.total());
+        assertEquals(all.subList(0, 5), top.ids());
+        assertEquals(List.of(3L), index.search("phone case", 1).ids());
+    }
+}
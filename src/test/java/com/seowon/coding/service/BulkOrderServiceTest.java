@@ -0,0 +1,78 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.BulkOrderResult;
+import com.seowon.coding.domain.dto.OrderRequestDto;
+import com.seowon.coding.domain.dto.ProductDto;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk",
+        "spring.jpa.show-sql=false"
+})
+class BulkOrderServiceTest {
+
+    @Autowired
+    private BulkOrderService bulkOrderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @DisplayName("재고가 부족하거나 잘못된 주문만 실패하고 나머지는 요청 순서대로 재고를 배정받아야 합니다.")
+    @Test
+    void placeOrders_ShouldReportPerOrderOutcome() {
+        Long a = productRepository.save(Product.builder().name("a").price(BigDecimal.TEN).stockQuantity(5).build()).getId();
+        Long b = productRepository.save(Product.builder().name("b").price(BigDecimal.ONE).stockQuantity(100).build()).getId();
+
+        BulkOrderResult result = bulkOrderService.placeOrders(List.of(
+                request(a, 3, b, 1),
+                request(a, 3, b, 1),      // a 가 2개 남아 실패
+                request(b, 0, b, 1),      // 수량 0
+                request(a, 2, b, 10)));
+
+        assertEquals(2, result.succeeded());
+        assertEquals(2, result.failed());
+        assertTrue(result.results().get(0).success());
+        assertFalse(result.results().get(1).success());
+        assertFalse(result.results().get(2).success());
+        assertTrue(result.results().get(3).success());
+        assertEquals(0, productRepository.findById(a).orElseThrow().getStockQuantity());
+        assertEquals(89, productRepository.findById(b).orElseThrow().getStockQuantity());
+        assertEquals(2, orderRepository.count());
+    }
+
+    private static OrderRequestDto request(Long p1, int q1, Long p2, int q2) {
+        OrderRequestDto dto = new OrderRequestDto();
+        dto.setCustomerName("partner");
+        dto.setCustomerEmail("partner@example.com");
+        dto.setProducts(List.of(line(p1, q1), line(p2, q2)));
+        return dto;
+    }
+
+    private static ProductDto line(Long productId, int quantity) {
+        ProductDto dto = new ProductDto();
+        dto.setProductId(productId);
+        dto.setQuantity(quantity);
+        return dto;
+    }
+}
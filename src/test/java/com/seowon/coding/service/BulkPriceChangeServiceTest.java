@@ -0,0 +1,122 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.BulkPriceChangeRequest;
+import com.seowon.coding.domain.dto.BulkPriceChangeResult;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkprice",
+        "spring.jpa.show-sql=false"
+})
+class BulkPriceChangeServiceTest {
+
+    @Autowired
+    private BulkPriceChangeService bulkPriceChangeService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @DisplayName("CHUNKED 모드는 chunk 별로 결과를 보고하고 없는 상품은 missingIds 로 알려야 합니다.")
+    @Test
+    void apply_Chunked_ShouldReportPerChunkResult() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(productRepository.save(Product.builder()
+                    .name("chunk " + i).price(new BigDecimal("100")).stockQuantity(1).build()).getId());
+        }
+        ids.add(Long.MAX_VALUE);
+        ids.add(ids.get(0));      // 중복은 한 번만
+
+        BulkPriceChangeRequest request = new BulkPriceChangeRequest();
+        request.setProductIds(ids);
+        request.setPercentage(10);
+        request.setMode(BulkPriceChangeRequest.Mode.CHUNKED);
+        request.setChunkSize(2);
+
+        BulkPriceChangeResult result = bulkPriceChangeService.apply(request);
+
+        assertEquals(BulkPriceChangeRequest.Mode.CHUNKED, result.mode());
+        assertEquals(3, result.chunks().size());
+        assertEquals(6, result.requested());
+        assertEquals(5, result.updated());
+        assertEquals(0, result.failedChunks());
+        assertEquals(List.of(Long.MAX_VALUE), result.chunks().get(2).missingIds());
+        for (Product p : productRepository.findAllById(ids)) {
+            assertEquals(0, new BigDecimal("110").compareTo(p.getPrice()), "price of " + p.getId());
+        }
+    }
+
+    @DisplayName("CHUNKED 모드에서 반올림으로 가격이 0 이 되는 chunk 만 롤백하고 나머지는 적용해야 합니다.")
+    @Test
+    void apply_Chunked_ShouldRollBackOnlyChunkWithNonPositivePrice() {
+        Long normal = productRepository.save(Product.builder()
+                .name("normal").price(new BigDecimal("100")).stockQuantity(1).build()).getId();
+        Long cheap = productRepository.save(Product.builder()
+                .name("cheap").price(BigDecimal.ONE).stockQuantity(1).build()).getId();
+
+        BulkPriceChangeRequest request = new BulkPriceChangeRequest();
+        request.setProductIds(List.of(normal, cheap));
+        request.setPercentage(-60);         // 1 * 0.4 -> 반올림하면 0
+        request.setMode(BulkPriceChangeRequest.Mode.CHUNKED);
+        request.setChunkSize(1);
+
+        BulkPriceChangeResult result = bulkPriceChangeService.apply(request);
+
+        assertEquals(1, result.updated());
+        assertEquals(1, result.failedChunks());
+        assertNotNull(result.chunks().get(1).error());
+        assertEquals(0, new BigDecimal("40").compareTo(productRepository.findById(normal).orElseThrow().getPrice()));
+        assertEquals(0, BigDecimal.ONE.compareTo(productRepository.findById(cheap).orElseThrow().getPrice()));
+    }
+
+    @DisplayName("CHUNKED 모드에서 chunkSize 가 범위를 벗어나면 아무것도 바꾸지 않고 거절해야 합니다.")
+    @Test
+    void apply_Chunked_ShouldRejectInvalidChunkSize() {
+        Long id = productRepository.save(Product.builder()
+                .name("chunk").price(new BigDecimal("100")).stockQuantity(1).build()).getId();
+
+        BulkPriceChangeRequest request = new BulkPriceChangeRequest();
+        request.setProductIds(List.of(id));
+        request.setPercentage(10);
+        request.setMode(BulkPriceChangeRequest.Mode.CHUNKED);
+        request.setChunkSize(BulkPriceChangeService.MAX_CHUNK_SIZE + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> bulkPriceChangeService.apply(request));
+        assertEquals(0, new BigDecimal("100").compareTo(productRepository.findById(id).orElseThrow().getPrice()));
+    }
+
+    @DisplayName("가격을 0 이하로 만드는 변경은 잘못된 요청으로 거절하고 아무것도 바꾸지 않아야 합니다.")
+    @Test
+    void apply_ShouldRejectChangeThatMakesPricesNonPositive() {
+        Long id = productRepository.save(Product.builder()
+                .name("cheap").price(new BigDecimal("100")).stockQuantity(1).category("cheap").build()).getId();
+
+        BulkPriceChangeRequest byIds = new BulkPriceChangeRequest();
+        byIds.setProductIds(List.of(id));
+        byIds.setPercentage(-100);
+        BulkPriceChangeRequest byCategory = new BulkPriceChangeRequest();
+        byCategory.setCategory("cheap");
+        byCategory.setPercentage(-99.9);     // 100 * 0.001 -> 반올림하면 0
+
+        assertThrows(IllegalArgumentException.class, () -> bulkPriceChangeService.apply(byIds));
+        assertThrows(IllegalArgumentException.class, () -> bulkPriceChangeService.apply(byCategory));
+        assertEquals(0, new BigDecimal("100").compareTo(productRepository.findById(id).orElseThrow().getPrice()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderIngestionService.PendingOrder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingest",
+        "spring.jpa.show-sql=false",
+        "orders.ingest.workers=1"
+})
+class OrderIngestionServiceTest {
+
+    @Autowired
+    private OrderIngestionService orderIngestionService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @DisplayName("한 묶음 안에서 실패한 주문은 그 주문만 실패하고 나머지 주문은 각자 결과를 받아야 합니다.")
+    @Test
+    void process_ShouldIsolateFailedOrder_WithinBatch() throws Exception {
+        Long a = saveProduct("a", 5);
+        Long b = saveProduct("b", 1);
+
+        PendingOrder first = pending(List.of(a), List.of(2));
+        PendingOrder outOfStock = pending(List.of(a, b), List.of(1, 5));      // b 재고 부족 -> a 도 차감되지 않아야 함
+        PendingOrder second = pending(List.of(a, b), List.of(3, 1));
+        PendingOrder missing = pending(List.of(Long.MAX_VALUE), List.of(1));
+
+        orderIngestionService.process(List.of(first, outOfStock, second, missing));
+
+        assertNotNull(first.future.get(1, TimeUnit.SECONDS).getId());
+        assertNotNull(second.future.get(1, TimeUnit.SECONDS).getId());
+        assertInstanceOf(IllegalStateException.class, causeOf(outOfStock.future));
+        assertInstanceOf(IllegalArgumentException.class, causeOf(missing.future));
+
+        assertEquals(0, productRepository.findById(a).orElseThrow().getStockQuantity());
+        assertEquals(0, productRepository.findById(b).orElseThrow().getStockQuantity());
+        assertEquals(2, orderRepository.count());
+    }
+
+    @DisplayName("submit 한 주문은 묶음으로 처리되어 각 호출자의 future 가 따로 완료되어야 합니다.")
+    @Test
+    void submit_ShouldCompleteEachCallersFuture() throws Exception {
+        Long a = saveProduct("a", 3);
+
+        List<CompletableFuture<Order>> futures = List.of(
+                orderIngestionService.submit("c1", "c1@example.com", List.of(a), List.of(1)),
+                orderIngestionService.submit("c2", "c2@example.com", List.of(a), List.of(1)),
+                orderIngestionService.submit("c3", "c3@example.com", List.of(a), List.of(2)),
+                orderIngestionService.submit("c4", "c4@example.com", List.of(a), List.of(1)));
+
+        // worker 하나가 큐 순서대로 처리하므로 c3 만 재고 부족
+        assertNotNull(futures.get(0).get(5, TimeUnit.SECONDS).getId());
+        assertNotNull(futures.get(1).get(5, TimeUnit.SECONDS).getId());
+        assertInstanceOf(IllegalStateException.class, causeOf(futures.get(2)));
+        assertNotNull(futures.get(3).get(5, TimeUnit.SECONDS).getId());
+
+        assertEquals(0, productRepository.findById(a).orElseThrow().getStockQuantity());
+        assertEquals(3, orderRepository.count());
+    }
+
+    private Long saveProduct(String name, int stock) {
+        return productRepository.save(Product.builder()
+                .name(name).price(BigDecimal.TEN).stockQuantity(stock).build()).getId();
+    }
+
+    private static PendingOrder pending(List<Long> productIds, List<Integer> quantities) {
+        return new PendingOrder("ingest", "ingest@example.com", productIds, quantities);
+    }
+
+    private static Throwable causeOf(CompletableFuture<Order> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+}
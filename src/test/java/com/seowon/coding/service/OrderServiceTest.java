@@ -1,15 +1,25 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.cache.ProductCache;
+import com.seowon.coding.domain.dto.OrderHistoryPage;
+import com.seowon.coding.domain.dto.OrderItemRow;
+import com.seowon.coding.domain.dto.OrderResponse;
+import com.seowon.coding.domain.dto.OrderRow;
+import com.seowon.coding.domain.dto.ProductPriceRow;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.OrderItem;
 import com.seowon.coding.domain.model.Product;
 import com.seowon.coding.domain.repository.OrderRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.inventory.InventoryLedger;
+import com.seowon.coding.inventory.StockLevelIndex;
+import com.seowon.coding.pricing.PricingEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -31,6 +41,18 @@ class OrderServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private InventoryLedger inventoryLedger;
+
+    @Spy
+    private ProductCache productCache = new ProductCache(100, 60);
+
+    @Spy
+    private StockLevelIndex stockLevelIndex = new StockLevelIndex(new int[]{0});
+
+    @Spy
+    private PricingEngine pricingEngine = new PricingEngine(List.of());
+
     @InjectMocks
     private OrderService orderService;
 
@@ -112,16 +134,59 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).findById(1L);
     }
 
+    @Test
+    void getAllOrderResponses() {
+        LocalDateTime now = LocalDateTime.now();
+        when(orderRepository.findAllRows()).thenReturn(List.of(
+                new OrderRow(1L, "John Doe", "john@example.com", Order.OrderStatus.PENDING, now, BigDecimal.valueOf(400), 0L),
+                new OrderRow(2L, "Jane Doe", "jane@example.com", Order.OrderStatus.PENDING, now, BigDecimal.ZERO, 0L)));
+        when(orderRepository.findAllItemRows()).thenReturn(List.of(
+                new OrderItemRow(1L, 1L, 1L, 2, BigDecimal.valueOf(100)),
+                new OrderItemRow(1L, 2L, 2L, 1, BigDecimal.valueOf(200))));
+
+        List<OrderResponse> orders = orderService.getAllOrderResponses();
+
+        assertEquals(2, orders.size());
+        assertEquals(2, orders.get(0).items().size());
+        assertEquals(0, BigDecimal.valueOf(200).compareTo(orders.get(0).items().get(0).subtotal()));
+        assertTrue(orders.get(1).items().isEmpty());
+        verify(orderRepository, never()).findAll();
+    }
+
+    @Test
+    void getCustomerHistory_ShouldPageByOrderDateAndId() {
+        LocalDateTime t1 = LocalDateTime.of(2026, 1, 3, 10, 0);
+        LocalDateTime t2 = LocalDateTime.of(2026, 1, 2, 10, 0, 0, 123_000_000);
+        when(orderRepository.findHistoryRows(eq("john@example.com"), any())).thenReturn(List.of(
+                new OrderRow(5L, "John Doe", "john@example.com", Order.OrderStatus.PENDING, t1, BigDecimal.TEN, 0L),
+                new OrderRow(3L, "John Doe", "john@example.com", Order.OrderStatus.PENDING, t2, BigDecimal.TEN, 0L),
+                new OrderRow(4L, "John Doe", "john@example.com", Order.OrderStatus.PENDING, t2, BigDecimal.TEN, 0L)));
+        when(orderRepository.findItemRowsByOrderIdIn(List.of(5L, 3L))).thenReturn(List.of(
+                new OrderItemRow(5L, 1L, 1L, 1, BigDecimal.TEN)));
+
+        OrderHistoryPage first = orderService.getCustomerHistory("john@example.com", null, 2);
+
+        assertEquals(2, first.content().size());
+        assertTrue(first.hasNext());
+        assertEquals(1, first.content().get(0).items().size());
+        assertTrue(first.content().get(1).items().isEmpty());
+
+        orderService.getCustomerHistory("john@example.com", first.nextCursor(), 2);
+        verify(orderRepository).findHistoryRowsAfter(eq("john@example.com"), eq(t2), eq(3L), any());
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.getCustomerHistory("john@example.com", "not-a-cursor", 2));
+    }
+
     @Test
     void updateOrder() {
-        when(orderRepository.existsById(1L)).thenReturn(true);
+        when(orderRepository.findVersionById(1L)).thenReturn(Optional.of(0L));
         when(orderRepository.save(any(Order.class))).thenReturn(order1);
 
         Order updated = orderService.updateOrder(1L, order1);
 
         assertNotNull(updated);
         assertEquals("John Doe", updated.getCustomerName());
-        verify(orderRepository, times(1)).existsById(1L);
+        verify(orderRepository, times(1)).findVersionById(1L);
         verify(orderRepository, times(1)).save(order1);
     }
 
@@ -138,8 +203,8 @@ class OrderServiceTest {
 
     @Test
     void placeOrder() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
-        when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
+        when(productRepository.findPriceRowsByIdIn(any())).thenReturn(priceRows(product1, product2));
+        when(productRepository.decreaseStockIfAvailable(anyLong(), anyInt())).thenReturn(1);
         when(orderRepository.save(any(Order.class))).thenReturn(order1);
 
         List<Long> productIds = Arrays.asList(1L, 2L);
@@ -153,15 +218,39 @@ class OrderServiceTest {
         assertEquals(Order.OrderStatus.PENDING, placed.getStatus());
         assertEquals(2, placed.getItems().size());
 
-        verify(productRepository, atLeastOnce()).findById(1L);
-        verify(productRepository, atLeastOnce()).findById(2L);
+        verify(productRepository, times(1)).decreaseStockIfAvailable(1L, 2);
+        verify(productRepository, times(1)).decreaseStockIfAvailable(2L, 1);
         verify(orderRepository, times(1)).save(any(Order.class));
     }
 
+    @Test
+    void placeOrder_ShouldNotTouchStock_WhenProductIsMissing() {
+        when(productRepository.findPriceRowsByIdIn(any())).thenReturn(priceRows(product1));
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.placeOrder(
+                "John Doe", "john@example.com", Arrays.asList(1L, 2L), Arrays.asList(2, 1)));
+
+        verify(productRepository, never()).decreaseStockIfAvailable(anyLong(), anyInt());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void placeOrder_ShouldFail_WhenConditionalDecrementUpdatesNoRow() {
+        when(productRepository.findPriceRowsByIdIn(any())).thenReturn(priceRows(product1, product2));
+        when(productRepository.decreaseStockIfAvailable(1L, 2)).thenReturn(1);
+        when(productRepository.decreaseStockIfAvailable(2L, 1)).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> orderService.placeOrder(
+                "John Doe", "john@example.com", Arrays.asList(2L, 1L), Arrays.asList(1, 2)));
+
+        verify(productRepository).increaseStockBy(1L, 2);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
     @Test
     void checkoutOrder() {
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
-        when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
+        when(productRepository.findPriceRowsByIdIn(any())).thenReturn(priceRows(product1, product2));
+        when(productRepository.decreaseStockIfAvailable(anyLong(), anyInt())).thenReturn(1);
         when(orderRepository.save(any(Order.class))).thenReturn(order1);
 
         List<OrderProduct> orderProducts = Arrays.asList(
@@ -177,9 +266,16 @@ class OrderServiceTest {
         assertEquals(Order.OrderStatus.PENDING, placed.getStatus());
         assertEquals(2, placed.getItems().size());
 
-        verify(productRepository, times(1)).findById(1L);
-        verify(productRepository, times(1)).findById(2L);
+        verify(productRepository, times(1)).findPriceRowsByIdIn(any());
+        verify(productRepository, never()).findById(anyLong());
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(pricingEngine).quote(argThat(subtotal -> subtotal.compareTo(new BigDecimal("400")) == 0), eq("SALE"));
+
+    }
 
+    private static List<ProductPriceRow> priceRows(Product... products) {
+        return Arrays.stream(products)
+                .map(p -> new ProductPriceRow(p.getId(), p.getName(), p.getPrice()))
+                .toList();
     }
-}
\ No newline at end of file
+}
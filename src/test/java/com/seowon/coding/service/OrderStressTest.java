@@ -0,0 +1,122 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 스레드가 같은 상품들을 서로 다른 순서로 담아 동시에 주문해도
+ * 초과 판매 / 교착 상태 / 락 타임아웃 없이 처리되는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stress;LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false"
+})
+class OrderStressTest {
+
+    private static final int PRODUCTS = 5;
+    private static final int STOCK = 200;
+    private static final int THREADS = 16;
+    private static final int ORDERS_PER_THREAD = 50;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @DisplayName("동시 다건 주문에서도 재고가 음수가 되거나 차감이 유실되면 안 됩니다.")
+    @Test
+    void placeOrder_ShouldNotOversell_UnderConcurrentMultiItemOrders(TestReporter reporter) throws InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            ids.add(productRepository.save(Product.builder()
+                    .name("stress " + i)
+                    .price(BigDecimal.TEN)
+                    .stockQuantity(STOCK)
+                    .build()).getId());
+        }
+
+        Map<Long, AtomicInteger> sold = new ConcurrentHashMap<>();
+        ids.forEach(id -> sold.put(id, new AtomicInteger()));
+        AtomicLong placed = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < THREADS; t++) {
+            pool.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int n = 0; n < ORDERS_PER_THREAD; n++) {
+                    // 상품 순서를 섞어서 요청 순서와 무관하게 락 순서가 정해지는지 본다
+                    List<Long> lines = new ArrayList<>(ids);
+                    Collections.shuffle(lines, random);
+                    lines = lines.subList(0, 2 + random.nextInt(PRODUCTS - 1));
+                    List<Integer> quantities = lines.stream().map(id -> 1 + random.nextInt(3)).toList();
+                    try {
+                        orderService.placeOrder("stress", "stress@example.com", lines, quantities);
+                        for (int i = 0; i < lines.size(); i++) {
+                            sold.get(lines.get(i)).addAndGet(quantities.get(i));
+                        }
+                        placed.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    } catch (Throwable e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(2, TimeUnit.MINUTES), "orders did not finish in time");
+        double seconds = (System.nanoTime() - began) / 1e9;
+
+        reporter.publishEntry("throughput", String.format("placed=%d rejected=%d in %.2fs (%.0f orders/s)",
+                placed.get(), rejected.get(), seconds, placed.get() / seconds));
+
+        assertTrue(unexpected.isEmpty(), () -> "unexpected failures: " + unexpected);
+        assertEquals(THREADS * ORDERS_PER_THREAD, placed.get() + rejected.get());
+        assertEquals(placed.get(), orderRepository.count());
+        for (Product p : productRepository.findAllById(ids)) {
+            assertTrue(p.getStockQuantity() >= 0, "oversold " + p.getId());
+            assertEquals(STOCK - sold.get(p.getId()).get(), p.getStockQuantity(), "lost update on " + p.getId());
+        }
+    }
+}
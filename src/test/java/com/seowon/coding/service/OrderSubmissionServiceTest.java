@@ -0,0 +1,106 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.OrderRequestDto;
+import com.seowon.coding.domain.dto.OrderSubmissionStatus;
+import com.seowon.coding.domain.dto.OrderSubmissionStatus.State;
+import com.seowon.coding.domain.dto.ProductDto;
+import com.seowon.coding.domain.model.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSubmissionServiceTest {
+
+    @Mock
+    private OrderIngestionService orderIngestionService;
+
+    private OrderSubmissionService orderSubmissionService;
+
+    @BeforeEach
+    void setUp() {
+        orderSubmissionService = new OrderSubmissionService(orderIngestionService, 2);
+    }
+
+    @DisplayName("접수 직후에는 PENDING, 주문이 저장되면 COMPLETED 와 주문 id 를 보여줘야 합니다.")
+    @Test
+    void submit_ShouldMoveFromPendingToCompleted() {
+        CompletableFuture<Order> placed = new CompletableFuture<>();
+        when(orderIngestionService.submit("c", "c@example.com", List.of(1L, 2L), List.of(3, 4))).thenReturn(placed);
+
+        String id = orderSubmissionService.submit(request());
+
+        assertEquals(State.PENDING, orderSubmissionService.getStatus(id).orElseThrow().state());
+        placed.complete(Order.builder().id(7L).build());
+        OrderSubmissionStatus status = orderSubmissionService.getStatus(id).orElseThrow();
+        assertEquals(State.COMPLETED, status.state());
+        assertEquals(7L, status.orderId());
+    }
+
+    @DisplayName("재고 부족 / 잘못된 요청은 REJECTED, 그 밖의 오류는 FAILED 로 사유와 함께 남겨야 합니다.")
+    @Test
+    void submit_ShouldRecordRejectedAndFailed() {
+        CompletableFuture<Order> outOfStock = new CompletableFuture<>();
+        CompletableFuture<Order> broken = new CompletableFuture<>();
+        when(orderIngestionService.submit(any(), any(), any(), any())).thenReturn(outOfStock, broken);
+
+        String rejected = orderSubmissionService.submit(request());
+        String failed = orderSubmissionService.submit(request());
+        outOfStock.completeExceptionally(new IllegalStateException("insufficient stock for product 1"));
+        broken.completeExceptionally(new RuntimeException("db down"));
+
+        OrderSubmissionStatus r = orderSubmissionService.getStatus(rejected).orElseThrow();
+        assertEquals(State.REJECTED, r.state());
+        assertEquals("insufficient stock for product 1", r.reason());
+        assertNull(r.orderId());
+        assertEquals(State.FAILED, orderSubmissionService.getStatus(failed).orElseThrow().state());
+    }
+
+    @DisplayName("접수 큐가 가득 차면 예외를 던지고 상태를 남기지 않아야 합니다.")
+    @Test
+    void submit_ShouldThrowAndForget_WhenQueueIsFull() {
+        when(orderIngestionService.submit(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("order queue is full")));
+
+        assertThrows(RejectedExecutionException.class, () -> orderSubmissionService.submit(request()));
+    }
+
+    @DisplayName("보관 개수를 넘으면 가장 오래된 상태부터 지워야 합니다.")
+    @Test
+    void getStatus_ShouldKeepOnlyMostRecent() {
+        when(orderIngestionService.submit(any(), any(), any(), any())).thenAnswer(inv -> new CompletableFuture<>());
+
+        String first = orderSubmissionService.submit(request());
+        String second = orderSubmissionService.submit(request());
+        String third = orderSubmissionService.submit(request());
+
+        assertTrue(orderSubmissionService.getStatus(first).isEmpty());
+        assertTrue(orderSubmissionService.getStatus(second).isPresent());
+        assertTrue(orderSubmissionService.getStatus(third).isPresent());
+    }
+
+    private static OrderRequestDto request() {
+        OrderRequestDto dto = new OrderRequestDto();
+        dto.setCustomerName("c");
+        dto.setCustomerEmail("c@example.com");
+        dto.setProducts(List.of(line(1L, 3), line(2L, 4)));
+        return dto;
+    }
+
+    private static ProductDto line(Long productId, int quantity) {
+        ProductDto dto = new ProductDto();
+        dto.setProductId(productId);
+        dto.setQuantity(quantity);
+        return dto;
+    }
+}
@@ -0,0 +1,170 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.controller.PriceJobController;
+import com.seowon.coding.domain.dto.BulkPriceChangeRequest;
+import com.seowon.coding.domain.dto.BulkPriceChangeResult;
+import com.seowon.coding.domain.dto.BulkPriceChangeResult.ChunkResult;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.model.ProcessingStatus.Status;
+import com.seowon.coding.domain.repository.ProcessingStatusRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceChangeJobServiceTest {
+
+    @Mock
+    private BulkPriceChangeService bulkPriceChangeService;
+
+    @Mock
+    private ProcessingStatusRepository processingStatusRepository;
+
+    private final Map<String, ProcessingStatus> statuses = new ConcurrentHashMap<>();
+    private final List<Status> saved = Collections.synchronizedList(new ArrayList<>());
+    private PriceChangeJobService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(processingStatusRepository.save(any())).thenAnswer(inv -> {
+            ProcessingStatus ps = inv.getArgument(0);
+            statuses.put(ps.getJobId(), ps);
+            saved.add(ps.getStatus());
+            return ps;
+        });
+        lenient().when(processingStatusRepository.findByJobId(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(statuses.get(inv.<String>getArgument(0))));
+        service = new PriceChangeJobService(bulkPriceChangeService, processingStatusRepository, 1, 1, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @DisplayName("작업 큐가 가득 차면 거절하고 컨트롤러는 429 를 돌려줘야 합니다. 대기 중인 작업은 취소할 수 있어야 합니다.")
+    @Test
+    void submit_ShouldRejectWhenQueueIsFull_AndCancelQueuedJob() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bulkPriceChangeService.resolveIds(any())).thenAnswer(inv -> {
+            running.countDown();
+            release.await();
+            return List.of(1L);
+        });
+        stubChunks(() -> {}, 1);
+
+        String first = service.submit(request());
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        String queued = service.submit(request());      // 큐 1칸
+
+        assertThrows(RejectedExecutionException.class, () -> service.submit(request()));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+                new PriceJobController(service).submit(request()).getStatusCode());
+        assertEquals(2, statuses.values().stream().filter(ps -> ps.getStatus() == Status.FAILED).count());
+
+        assertTrue(service.cancel(queued));
+        assertEquals(Status.CANCELLED, statuses.get(queued).getStatus());
+
+        release.countDown();
+        awaitStatus(first, Status.COMPLETED);
+        verify(bulkPriceChangeService, times(1)).resolveIds(any());
+    }
+
+    @DisplayName("작업은 PENDING -> RUNNING -> COMPLETED 로 바뀌고 chunk 마다 진행률을 남겨야 합니다.")
+    @Test
+    void run_ShouldRecordProgressAndComplete() throws InterruptedException {
+        when(bulkPriceChangeService.resolveIds(any())).thenReturn(List.of(1L, 2L, 3L, 1L));
+        stubChunks(() -> {}, 2, 1);
+
+        String jobId = service.submit(request());
+        awaitStatus(jobId, Status.COMPLETED);
+
+        ProcessingStatus ps = statuses.get(jobId);
+        assertEquals(3, ps.getTotal(), "중복 id 는 한 번만 세야 합니다.");
+        assertEquals(3, ps.getProcessed());
+        assertEquals(List.of(Status.PENDING, Status.RUNNING, Status.RUNNING, Status.RUNNING, Status.COMPLETED), saved);
+    }
+
+    @DisplayName("실행 중 취소하면 남은 chunk 를 건너뛰고 CANCELLED 로 끝나야 합니다.")
+    @Test
+    void cancel_ShouldSkipRemainingChunks() throws InterruptedException {
+        when(bulkPriceChangeService.resolveIds(any())).thenReturn(List.of(1L, 2L, 3L));
+        stubChunks(this::cancelOnlyJob, 2, 1);
+
+        String jobId = service.submit(request());
+        awaitStatus(jobId, Status.CANCELLED);
+
+        assertEquals(2, statuses.get(jobId).getProcessed());
+    }
+
+    @DisplayName("마지막 chunk 이후에 들어온 취소는 건너뛴 chunk 가 없으므로 COMPLETED 로 끝나야 합니다.")
+    @Test
+    void cancel_AfterLastChunk_ShouldStillComplete() throws InterruptedException {
+        when(bulkPriceChangeService.resolveIds(any())).thenReturn(List.of(1L, 2L));
+        stubChunks(this::cancelOnlyJob, 2);
+
+        String jobId = service.submit(request());
+        awaitStatus(jobId, Status.COMPLETED);
+
+        assertEquals(2, statuses.get(jobId).getProcessed());
+    }
+
+    /**
+     * applyInChunks 를 chunk 크기대로 흉내 낸다. chunk 마다 onChunk 후 afterChunk 를 실행하고 취소되면 멈춘다.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubChunks(Runnable afterChunk, int... sizes) {
+        when(bulkPriceChangeService.applyInChunks(anyList(), any(), anyInt(), any(), any())).thenAnswer(inv -> {
+            Consumer<ChunkResult> onChunk = inv.getArgument(3);
+            BooleanSupplier cancelled = inv.getArgument(4);
+            List<ChunkResult> results = new ArrayList<>();
+            for (int i = 0; i < sizes.length && !cancelled.getAsBoolean(); i++) {
+                ChunkResult result = ChunkResult.succeeded(i, sizes[i], sizes[i], List.of());
+                results.add(result);
+                onChunk.accept(result);
+                afterChunk.run();
+            }
+            return BulkPriceChangeResult.of(BulkPriceChangeRequest.Mode.CHUNKED, results);
+        });
+    }
+
+    private void cancelOnlyJob() {
+        assertTrue(service.cancel(statuses.keySet().iterator().next()));
+    }
+
+    private void awaitStatus(String jobId, Status expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statuses.get(jobId).getStatus() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, statuses.get(jobId).getStatus());
+    }
+
+    private static BulkPriceChangeRequest request() {
+        BulkPriceChangeRequest request = new BulkPriceChangeRequest();
+        request.setProductIds(List.of(1L));
+        request.setPercentage(10);
+        return request;
+    }
+}
@@ -0,0 +1,80 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.dto.BulkPriceChangeRequest;
+import com.seowon.coding.domain.dto.PricePreviewRow;
+import com.seowon.coding.domain.dto.PricePreviewTotals;
+import com.seowon.coding.domain.dto.ProductPriceRow;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceChangePreviewServiceTest {
+
+    private static final int PRODUCTS = PriceChangePreviewService.CHUNK_SIZE * 2 + 500;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private PriceChangePreviewService priceChangePreviewService;
+
+    @DisplayName("여러 chunk 에 걸친 미리보기는 id 순서대로 행을 넘기고 합계를 정확히 내야 합니다.")
+    @Test
+    void preview_ShouldEmitRowsInIdOrder_AndSumTotals() {
+        // id 7 은 가격 없음 -> 합계에서 빠짐
+        when(productRepository.findPriceRowsByIdIn(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream()
+                    .map(id -> new ProductPriceRow(id, "p" + id, id == 7L ? null : new BigDecimal("100")))
+                    .toList();
+        });
+
+        BulkPriceChangeRequest request = new BulkPriceChangeRequest();
+        // 역순 + 중복으로 보내도 id 오름차순, 한 번씩
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, PRODUCTS).map(i -> PRODUCTS + 1 - i).boxed().toList());
+        ids.add(1L);
+        request.setProductIds(ids);
+        request.setPercentage(10);
+
+        List<PricePreviewRow> rows = new ArrayList<>();
+        PricePreviewTotals totals = priceChangePreviewService.preview(request, rows::add);
+
+        assertEquals(PRODUCTS, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(i + 1L, rows.get(i).productId());
+        }
+        assertNull(rows.get(6).newPrice());
+        assertEquals(0, new BigDecimal("110").compareTo(rows.get(0).newPrice()));
+        assertEquals(0, BigDecimal.TEN.compareTo(rows.get(0).delta()));
+
+        long priced = PRODUCTS - 1;
+        assertEquals(priced, totals.count());
+        assertEquals(0, BigDecimal.valueOf(100 * priced).compareTo(totals.oldTotal()));
+        assertEquals(0, BigDecimal.valueOf(110 * priced).compareTo(totals.newTotal()));
+        assertEquals(0, BigDecimal.valueOf(10 * priced).compareTo(totals.delta()));
+        verify(productRepository, times(3)).findPriceRowsByIdIn(anyCollection());
+    }
+
+    @DisplayName("대상이 없으면 DB 를 읽지 않고 거절해야 합니다.")
+    @Test
+    void preview_ShouldRejectEmptyTarget() {
+        BulkPriceChangeRequest request = new BulkPriceChangeRequest();
+
+        assertThrows(IllegalArgumentException.class, () -> priceChangePreviewService.preview(request, row -> {}));
+        verifyNoInteractions(productRepository);
+    }
+}
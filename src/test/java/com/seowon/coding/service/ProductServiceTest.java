@@ -1,12 +1,17 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.cache.ProductCache;
 import com.seowon.coding.domain.model.Product;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.index.CategoryIndex;
+import com.seowon.coding.inventory.InventoryLedger;
+import com.seowon.coding.search.ProductSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -24,6 +29,18 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private InventoryLedger inventoryLedger;
+
+    @Spy
+    private ProductCache productCache = new ProductCache(100, 60);
+
+    @Spy
+    private CategoryIndex categoryIndex = new CategoryIndex();
+
+    @Spy
+    private ProductSearchIndex productSearchIndex = new ProductSearchIndex();
+
     @InjectMocks
     private ProductService productService;
 
@@ -85,14 +102,14 @@ class ProductServiceTest {
 
     @Test
     void updateProduct() {
-        when(productRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.findVersionById(1L)).thenReturn(Optional.of(0L));
         when(productRepository.save(any(Product.class))).thenReturn(product1);
 
         Product updated = productService.updateProduct(1L, product1);
 
         assertNotNull(updated);
         assertEquals("Test Product 1", updated.getName());
-        verify(productRepository, times(1)).existsById(1L);
+        verify(productRepository, times(1)).findVersionById(1L);
         verify(productRepository, times(1)).save(product1);
     }
 
@@ -119,4 +136,17 @@ class ProductServiceTest {
         verify(productRepository, times(1)).findByCategory("Electronics");
     }
 
-}
\ No newline at end of file
+    @Test
+    void applyBulkPriceChange_ShouldRejectNonPositiveMultiplier() {
+        when(productRepository.findIdsByCategory("Electronics")).thenReturn(List.of(1L));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.applyBulkPriceChange(List.of(1L, 2L), -100, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.applyCategoryPriceChange("Electronics", -150, true));
+
+        verify(productRepository, never()).multiplyPrice(any(), any());
+        verify(productRepository, never()).multiplyPriceByCategory(any(), any());
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.seowon.coding.stats;
+
+import com.seowon.coding.domain.dto.OrderStats;
+import com.seowon.coding.domain.dto.OrderStats.StatusTotal;
+import com.seowon.coding.domain.model.Order.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatsStoreTest {
+
+    private OrderStatsStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OrderStatsStore();
+        store.load(Map.of(OrderStatus.PENDING, new StatusTotal(2, new BigDecimal("30.00"))));
+    }
+
+    @DisplayName("생성 / 상태 변경 / 취소가 건수와 매출에 변화량만큼 반영되어야 합니다.")
+    @Test
+    void apply_ShouldMoveCountsAndAmountsBetweenStatuses() {
+        store.apply(null, null, OrderStatus.PENDING, new BigDecimal("20.00"));
+        store.apply(OrderStatus.PENDING, new BigDecimal("20.00"), OrderStatus.SHIPPED, new BigDecimal("20.00"));
+        store.apply(OrderStatus.PENDING, new BigDecimal("10.00"), OrderStatus.CANCELLED, new BigDecimal("10.00"));
+
+        OrderStats stats = store.snapshot();
+        assertEquals(3, stats.orders());
+        assertEquals(1, stats.byStatus().get(OrderStatus.PENDING).count());
+        assertEquals(1, stats.byStatus().get(OrderStatus.SHIPPED).count());
+        assertEquals(1, stats.byStatus().get(OrderStatus.CANCELLED).count());
+        assertEquals(0, stats.revenue().compareTo(new BigDecimal("40.00")));
+    }
+
+    @DisplayName("같은 차이가 연속 두 번 보일 때만 DB 값으로 보정해야 합니다.")
+    @Test
+    void reconcile_ShouldCorrectOnlyPersistentDrift() {
+        Map<OrderStatus, StatusTotal> actual = Map.of(OrderStatus.PENDING, new StatusTotal(3, new BigDecimal("45.00")));
+
+        assertEquals(0, store.reconcile(actual));
+        assertEquals(2, store.snapshot().byStatus().get(OrderStatus.PENDING).count());
+
+        assertEquals(1, store.reconcile(actual));
+        assertEquals(3, store.snapshot().byStatus().get(OrderStatus.PENDING).count());
+        assertEquals(0, store.snapshot().revenue().compareTo(new BigDecimal("45.00")));
+    }
+}
@@ -0,0 +1,64 @@
+package com.seowon.coding.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @DisplayName("백분위는 값이 속한 2의 거듭제곱 구간의 상한으로 보고해야 합니다.")
+    @Test
+    void snapshot_ShouldReportBucketUpperBound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));       // 64 ~ 127 구간
+        }
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(10_000));        // 8192 ~ 16383 구간
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(10_000));
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.count());
+        assertEquals(298, snapshot.meanMicros());
+        assertEquals(127, snapshot.p50Micros());
+        assertEquals(16_383, snapshot.p99Micros());
+    }
+
+    @DisplayName("구간 경계 값은 올바른 구간에 들어가고 오차는 2배 미만이어야 합니다.")
+    @Test
+    void record_ShouldPlaceBoundaryValuesInTheRightBucket() {
+        long[][] cases = {
+                // micros, 기대 상한
+                {0, 0}, {1, 1}, {2, 3}, {3, 3}, {4, 7}, {1023, 1023}, {1024, 2047}
+        };
+        for (long[] c : cases) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(c[0]));
+            long p50 = histogram.snapshot().p50Micros();
+            assertEquals(c[1], p50, c[0] + "us");
+            assertTrue(p50 >= c[0] && p50 < Math.max(1, 2 * c[0]), c[0] + "us");
+        }
+    }
+
+    @DisplayName("마이크로초 미만은 0 구간, 아주 큰 값은 마지막 구간으로 모여야 합니다.")
+    @Test
+    void record_ShouldClampToFirstAndLastBucket() {
+        LatencyHistogram small = new LatencyHistogram();
+        small.record(999);
+        small.record(-5);
+        assertEquals(0, small.snapshot().p99Micros());
+
+        LatencyHistogram large = new LatencyHistogram();
+        large.record(Long.MAX_VALUE);
+        assertEquals((1L << 39) - 1, large.snapshot().p50Micros());
+    }
+
+    @DisplayName("기록이 없으면 모두 0 이어야 합니다.")
+    @Test
+    void snapshot_ShouldBeZero_WhenEmpty() {
+        assertEquals(new LatencyHistogram.Snapshot(0, 0, 0, 0), new LatencyHistogram().snapshot());
+    }
+}